@@ -9,8 +9,11 @@ version = projectVersion
 
 dependencies {
     implementation(projects.doburokuAnnotation)
+    implementation(libs.adventure.text.minimessage)
+    implementation(libs.adventure.text.serializer.gson)
     compileOnly(libs.google.auto.service.annotations)
     annotationProcessor(libs.google.auto.service)
 
     testImplementation(libs.google.compile.testing)
+    testImplementation(projects.doburokuStandard)
 }
@@ -0,0 +1,141 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.processor;
+
+import io.github.namiuni.doburoku.annotation.BinaryBundleFormat;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static io.github.namiuni.doburoku.annotation.BinaryBundleFormat.ABSENT;
+import static io.github.namiuni.doburoku.annotation.BinaryBundleFormat.HEADER_INTS;
+import static io.github.namiuni.doburoku.annotation.BinaryBundleFormat.MAGIC;
+import static io.github.namiuni.doburoku.annotation.BinaryBundleFormat.VERSION;
+
+/**
+ * Encodes all locales of one base name into a compact binary bundle.
+ *
+ * <p>All integers are big-endian. The layout is:</p>
+ * <pre>
+ * int    magic ("DBRB")
+ * int    version
+ * int    localeCount, keyCount, stringCount
+ * int[]  locale tag string index, per locale ("" for the root locale, otherwise e.g. "en_US")
+ * int[]  key string index, per key, sorted by their unsigned UTF-8 bytes
+ * int[]  value string index, per locale and key (locale-major), or -1 if absent
+ * int[]  string byte offsets (stringCount + 1), relative to the start of the string data
+ * byte[] UTF-8 string data, each distinct string stored once
+ * </pre>
+ *
+ * <p>The constants of the format live in {@link BinaryBundleFormat}. The runtime counterpart is
+ * {@code io.github.namiuni.doburoku.standard.translation.BinaryTranslationSource}.</p>
+ */
+final class BinaryBundleWriter {
+
+    private static final Comparator<byte[]> UTF_8_ORDER = Arrays::compareUnsigned;
+
+    private BinaryBundleWriter() {
+    }
+
+    /**
+     * Encodes the given locales.
+     *
+     * @param locales the entries of each locale, keyed by locale tag
+     * @return the encoded bundle
+     */
+    static byte[] write(final Map<String, ? extends Map<String, String>> locales) {
+        final List<String> localeTags = List.copyOf(locales.keySet());
+
+        final SortedSet<byte[]> sortedKeys = new TreeSet<>(UTF_8_ORDER);
+        for (final Map<String, String> entries : locales.values()) {
+            for (final String key : entries.keySet()) {
+                sortedKeys.add(key.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        final List<String> keys = sortedKeys.stream()
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+                .toList();
+
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        final int[] localeIndices = new int[localeTags.size()];
+        for (int i = 0; i < localeIndices.length; i++) {
+            localeIndices[i] = intern(strings, localeTags.get(i));
+        }
+
+        final int[] keyIndices = new int[keys.size()];
+        for (int i = 0; i < keyIndices.length; i++) {
+            keyIndices[i] = intern(strings, keys.get(i));
+        }
+
+        final int[] valueIndices = new int[localeTags.size() * keys.size()];
+        for (int locale = 0; locale < localeTags.size(); locale++) {
+            final Map<String, String> entries = locales.get(localeTags.get(locale));
+            for (int key = 0; key < keys.size(); key++) {
+                final String value = entries.get(keys.get(key));
+                valueIndices[locale * keys.size() + key] = value == null ? ABSENT : intern(strings, value);
+            }
+        }
+
+        final byte[][] encoded = strings.keySet().stream()
+                .map(string -> string.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        int dataLength = 0;
+        for (final byte[] bytes : encoded) {
+            dataLength += bytes.length;
+        }
+
+        final int tableInts = HEADER_INTS + localeIndices.length + keyIndices.length + valueIndices.length + encoded.length + 1;
+        final ByteBuffer buffer = ByteBuffer.allocate(tableInts * Integer.BYTES + dataLength)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(localeIndices.length)
+                .putInt(keyIndices.length)
+                .putInt(encoded.length);
+        buffer.asIntBuffer().put(localeIndices).put(keyIndices).put(valueIndices);
+        buffer.position(buffer.position() + (localeIndices.length + keyIndices.length + valueIndices.length) * Integer.BYTES);
+
+        int offset = 0;
+        for (final byte[] bytes : encoded) {
+            buffer.putInt(offset);
+            offset += bytes.length;
+        }
+        buffer.putInt(offset);
+
+        for (final byte[] bytes : encoded) {
+            buffer.put(bytes);
+        }
+
+        return buffer.array();
+    }
+
+    private static int intern(final Map<String, Integer> strings, final String string) {
+        return strings.computeIfAbsent(string, it -> strings.size());
+    }
+}
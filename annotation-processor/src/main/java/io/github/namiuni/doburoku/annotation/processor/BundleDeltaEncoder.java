@@ -0,0 +1,84 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.processor;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Reduces the bundles of a base name to the entries that differ from their fallback parents.
+ *
+ * <p>Locale keys are bundle file name suffixes ({@code ""}, {@code "_en"}, {@code "_en_US"}). The parent
+ * of a locale drops its last component, so {@code _en_US} falls back to {@code _en} and then to the root
+ * bundle, which is exactly how {@link java.util.ResourceBundle} chains property bundles.</p>
+ *
+ * <p>Every bundle drops the entries whose value it would inherit anyway. No bundle is created or gains
+ * entries, so resolving any key for any locale through the parent chain yields the same value as before,
+ * including locales without a bundle of their own such as a plain language or an unlisted region.</p>
+ */
+final class BundleDeltaEncoder {
+
+    private static final char SEPARATOR = '_';
+
+    private BundleDeltaEncoder() {
+    }
+
+    /**
+     * Delta-encodes the bundles of one base name.
+     *
+     * @param locales the complete entries, keyed by locale key
+     * @return the delta-encoded entries, keyed by the same locale keys
+     */
+    static Map<String, SortedMap<String, String>> encode(final Map<String, SortedMap<String, String>> locales) {
+        final Map<String, SortedMap<String, String>> encoded = new TreeMap<>();
+        for (final Map.Entry<String, SortedMap<String, String>> locale : locales.entrySet()) {
+            final String parent = parent(locale.getKey());
+            final SortedMap<String, String> entries = new TreeMap<>(locale.getValue());
+            if (parent != null) {
+                entries.entrySet().removeIf(entry -> entry.getValue().equals(resolve(locales, parent, entry.getKey())));
+            }
+            encoded.put(locale.getKey(), entries);
+        }
+        return encoded;
+    }
+
+    private static String resolve(final Map<String, SortedMap<String, String>> locales, final String localeKey, final String key) {
+        for (String current = localeKey; current != null; current = parent(current)) {
+            final SortedMap<String, String> entries = locales.get(current);
+            final String value = entries == null ? null : entries.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String parent(final String localeKey) {
+        if (localeKey.isEmpty()) {
+            return null;
+        }
+        return localeKey.substring(0, localeKey.lastIndexOf(SEPARATOR));
+    }
+}
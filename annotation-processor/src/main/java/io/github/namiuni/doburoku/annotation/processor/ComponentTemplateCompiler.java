@@ -0,0 +1,165 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+
+/**
+ * Parses MiniMessage templates at compile time into serialized component trees.
+ *
+ * <p>Placeholders become slots: a translatable component with the key {@code doburoku.slot.<index>},
+ * where the index is the position of the method parameter, and therefore of the translation argument,
+ * that fills it. Placeholders may name a parameter the same way the MiniMessage argument transformer
+ * does, or use the positional {@code <arg:index>} form. Every other tag must be a standard MiniMessage
+ * tag, because a pre-parsed tree cannot be resolved against tags registered at runtime.</p>
+ */
+final class ComponentTemplateCompiler {
+
+    /**
+     * Key prefix of the translatable components that mark placeholder slots.
+     */
+    static final String SLOT_PREFIX = "doburoku.slot.";
+
+    private static final String[] POSITIONAL_TAGS = {"arg", "argument"};
+
+    private final MiniMessage miniMessage = MiniMessage.miniMessage();
+    private final TagResolver standardTags = TagResolver.standard();
+    private final GsonComponentSerializer serializer = GsonComponentSerializer.gson();
+
+    /**
+     * Compiles a template.
+     *
+     * @param template  the MiniMessage template
+     * @param slotNames the placeholder name of each parameter, in parameter order
+     * @return the component tree serialized as JSON
+     * @throws IllegalArgumentException if the template uses unknown tags or tags with invalid arguments
+     */
+    String compile(final String template, final List<String> slotNames) {
+        final SlotResolver resolver = new SlotResolver(slotNames);
+        final Component component;
+        try {
+            component = this.miniMessage.deserialize(template, resolver);
+        } catch (final ParsingException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+
+        if (!resolver.problems.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", resolver.problems));
+        }
+        return this.serializer.serialize(component);
+    }
+
+    /**
+     * Appends a string as a quoted JSON string.
+     *
+     * @param builder the builder to append to
+     * @param value   the string
+     */
+    static void appendJsonString(final StringBuilder builder, final String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append("\\u%04x".formatted((int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+
+    private final class SlotResolver implements TagResolver {
+
+        private final List<String> slotNames;
+        private final List<String> problems = new ArrayList<>();
+
+        private SlotResolver(final List<String> slotNames) {
+            this.slotNames = slotNames;
+        }
+
+        @Override
+        public Tag resolve(final String name, final ArgumentQueue arguments, final Context ctx) {
+            final int slot = this.slotNames.indexOf(name);
+            if (slot >= 0) {
+                return slot(slot);
+            }
+
+            for (final String positionalTag : POSITIONAL_TAGS) {
+                if (positionalTag.equals(name)) {
+                    return this.positional(name, arguments);
+                }
+            }
+
+            if (ComponentTemplateCompiler.this.standardTags.has(name)) {
+                try {
+                    return ComponentTemplateCompiler.this.standardTags.resolve(name, arguments, ctx);
+                } catch (final ParsingException e) {
+                    this.problems.add("Invalid arguments for tag <%s>: %s".formatted(name, e.getMessage()));
+                    return null;
+                }
+            }
+
+            this.problems.add("Unknown tag <%s>, expected a standard tag or one of the placeholders %s".formatted(name, this.slotNames));
+            return null;
+        }
+
+        @Override
+        public boolean has(final String name) {
+            // Claim every tag, so unknown tags reach resolve() and are reported instead of kept as text
+            return true;
+        }
+
+        private Tag positional(final String name, final ArgumentQueue arguments) {
+            final OptionalInt index = arguments.hasNext() ? arguments.pop().asInt() : OptionalInt.empty();
+            if (index.isEmpty() || index.getAsInt() < 0 || index.getAsInt() >= this.slotNames.size()) {
+                this.problems.add("Tag <%s> needs an argument index between 0 and %d".formatted(name, this.slotNames.size() - 1));
+                return null;
+            }
+            return slot(index.getAsInt());
+        }
+
+        private static Tag slot(final int index) {
+            return Tag.selfClosingInserting(Component.translatable(SLOT_PREFIX + index));
+        }
+    }
+}
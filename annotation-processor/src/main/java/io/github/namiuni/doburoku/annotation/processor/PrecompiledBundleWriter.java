@@ -0,0 +1,226 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Generates Java sources that serve bundle entries without any I/O or parsing.
+ *
+ * <p>For every locale a final class with a static {@code message(String)} lookup is generated. Entries
+ * are split into chunks by {@link String#hashCode()}, which is stable across JVMs, so each chunk is a
+ * nested class with its own {@code switch} and constant pool; this keeps large bundles within class
+ * file limits. A public class per base name implements
+ * {@code io.github.namiuni.doburoku.standard.translation.TranslationSource} and dispatches to the
+ * locale classes.</p>
+ */
+final class PrecompiledBundleWriter {
+
+    private static final String TRANSLATION_SOURCE = "io.github.namiuni.doburoku.standard.translation.TranslationSource";
+    private static final String GENERATED = "@javax.annotation.processing.Generated(\"" + ResourceBundleProcessor.class.getName() + "\")";
+    private static final String CLASS_SUFFIX = "Translations";
+    private static final String ROOT_SUFFIX = "root";
+    private static final int ENTRIES_PER_CHUNK = 512;
+
+    private PrecompiledBundleWriter() {
+    }
+
+    /**
+     * Derives the simple name of the generated base name class, e.g. {@code lang/test-messages} becomes
+     * {@code TestMessagesTranslations}.
+     *
+     * <p>The name only keeps the letters and digits of the last path segment, so different base names such as
+     * {@code lang/messages} and {@code i18n/messages} map to the same class; the processor reports such
+     * collisions within a package.</p>
+     *
+     * @param baseName the bundle base name
+     * @return the simple class name
+     */
+    static String className(final String baseName) {
+        final String simpleName = baseName.substring(Math.max(baseName.lastIndexOf('/'), baseName.lastIndexOf('.')) + 1);
+        final StringBuilder name = new StringBuilder();
+        for (final String part : simpleName.split("[^A-Za-z0-9]+")) {
+            if (!part.isEmpty()) {
+                name.append(Character.toUpperCase(part.charAt(0))).append(part, 1, part.length());
+            }
+        }
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            name.insert(0, '_');
+        }
+        return name.append(CLASS_SUFFIX).toString();
+    }
+
+    /**
+     * Derives the simple name of a generated locale class.
+     *
+     * @param className the base name class name
+     * @param localeTag the locale tag ("" for the root locale)
+     * @return the simple class name
+     */
+    static String localeClassName(final String className, final String localeTag) {
+        return className + "_" + (localeTag.isEmpty() ? ROOT_SUFFIX : localeTag);
+    }
+
+    /**
+     * Generates the class serving one locale.
+     *
+     * @param packageName the package of the generated class
+     * @param className   the simple name of the generated class
+     * @param entries     the entries of the locale
+     * @return the Java source
+     */
+    static String localeClass(final String packageName, final String className, final SortedMap<String, String> entries) {
+        final int chunkCount = Math.max(1, (entries.size() + ENTRIES_PER_CHUNK - 1) / ENTRIES_PER_CHUNK);
+        final List<SortedMap<String, String>> chunks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            chunks.add(new TreeMap<>());
+        }
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+            chunks.get(Math.floorMod(entry.getKey().hashCode(), chunkCount)).put(entry.getKey(), entry.getValue());
+        }
+
+        final StringBuilder source = header(packageName)
+                .append(GENERATED).append('\n')
+                .append("final class ").append(className).append(" {\n\n")
+                .append("    private ").append(className).append("() {\n    }\n\n")
+                .append("    static String message(final String key) {\n");
+        if (chunkCount == 1) {
+            source.append("        return Chunk0.message(key);\n");
+        } else {
+            source.append("        return switch (Math.floorMod(key.hashCode(), ").append(chunkCount).append(")) {\n");
+            for (int i = 0; i < chunkCount; i++) {
+                source.append("            case ").append(i).append(" -> Chunk").append(i).append(".message(key);\n");
+            }
+            source.append("            default -> null;\n        };\n");
+        }
+        source.append("    }\n");
+
+        for (int i = 0; i < chunkCount; i++) {
+            source.append("\n    private static final class Chunk").append(i).append(" {\n\n")
+                    .append("        private static String message(final String key) {\n")
+                    .append("            return switch (key) {\n");
+            for (final Map.Entry<String, String> entry : chunks.get(i).entrySet()) {
+                source.append("                case ").append(literal(entry.getKey()))
+                        .append(" -> ").append(literal(entry.getValue())).append(";\n");
+            }
+            source.append("                default -> null;\n")
+                    .append("            };\n")
+                    .append("        }\n")
+                    .append("    }\n");
+        }
+
+        return source.append("}\n").toString();
+    }
+
+    /**
+     * Generates the public class serving all locales of a base name.
+     *
+     * @param packageName  the package of the generated class
+     * @param className    the simple name of the generated class
+     * @param localeClasses the simple names of the locale classes, keyed by locale tag
+     * @return the Java source
+     */
+    static String bundleClass(final String packageName, final String className, final SortedMap<String, String> localeClasses) {
+        final StringBuilder source = header(packageName)
+                .append("import java.util.Locale;\n")
+                .append("import java.util.Map;\n\n")
+                .append(GENERATED).append('\n')
+                .append("public final class ").append(className).append(" implements ").append(TRANSLATION_SOURCE).append(" {\n\n")
+                .append("    private static final Map<Locale, Integer> LOCALES = Map.ofEntries(\n");
+
+        int index = 0;
+        for (final String localeTag : localeClasses.keySet()) {
+            source.append("            Map.entry(").append(localeExpression(localeTag)).append(", ").append(index++).append(')')
+                    .append(index < localeClasses.size() ? ",\n" : "\n");
+        }
+
+        source.append("    );\n\n")
+                .append("    public ").append(className).append("() {\n    }\n\n")
+                .append("    @Override\n")
+                .append("    public String message(final String key, final Locale locale) {\n")
+                .append("        final Integer index = LOCALES.get(locale);\n")
+                .append("        if (index == null) {\n")
+                .append("            return null;\n")
+                .append("        }\n")
+                .append("        return switch (index) {\n");
+
+        index = 0;
+        for (final String localeClass : localeClasses.values()) {
+            source.append("            case ").append(index++).append(" -> ").append(localeClass).append(".message(key);\n");
+        }
+
+        return source.append("            default -> null;\n")
+                .append("        };\n")
+                .append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private static StringBuilder header(final String packageName) {
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        return source;
+    }
+
+    private static String localeExpression(final String localeTag) {
+        if (localeTag.isEmpty()) {
+            return "Locale.ROOT";
+        }
+
+        final StringBuilder expression = new StringBuilder("Locale.of(");
+        final String[] parts = localeTag.split("_", 3);
+        for (int i = 0; i < parts.length; i++) {
+            expression.append(i == 0 ? "" : ", ").append(literal(parts[i]));
+        }
+        return expression.append(')').toString();
+    }
+
+    private static String literal(final String value) {
+        final StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        literal.append("\\u%04x".formatted((int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
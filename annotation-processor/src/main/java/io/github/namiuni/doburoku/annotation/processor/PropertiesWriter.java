@@ -0,0 +1,99 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.processor;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Writes sorted entries in the {@code .properties} format in a single pass.
+ *
+ * <p>Escaping matches {@link java.util.Properties#store(java.io.Writer, String)}, but entries are
+ * written in the order of the given map without copying or re-sorting them, no timestamp comment is
+ * emitted, and lines always end with {@code \n}, so the output is deterministic.</p>
+ */
+final class PropertiesWriter {
+
+    private static final char LINE_SEPARATOR = '\n';
+    private static final char KEY_VALUE_SEPARATOR = '=';
+    private static final String COMMENT_PREFIX = "#";
+    private static final int ESTIMATED_LINE_OVERHEAD = 4;
+
+    private PropertiesWriter() {
+    }
+
+    /**
+     * Estimates the number of characters {@link #write(Appendable, String, SortedMap)} will produce.
+     *
+     * @param comment the header comment
+     * @param entries the entries to write
+     * @return the estimated length, for pre-sizing buffers
+     */
+    static int estimateLength(final String comment, final SortedMap<String, String> entries) {
+        int length = comment.length() + ESTIMATED_LINE_OVERHEAD;
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+            length += entry.getKey().length() + entry.getValue().length() + ESTIMATED_LINE_OVERHEAD;
+        }
+        return length;
+    }
+
+    /**
+     * Writes a header comment followed by all entries, in iteration order.
+     *
+     * @param out     the destination
+     * @param comment the header comment, written on a single line
+     * @param entries the sorted entries to write
+     * @throws IOException if the destination fails
+     */
+    static void write(final Appendable out, final String comment, final SortedMap<String, String> entries) throws IOException {
+        out.append(COMMENT_PREFIX).append(comment).append(LINE_SEPARATOR);
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+            escape(out, entry.getKey(), true);
+            out.append(KEY_VALUE_SEPARATOR);
+            escape(out, entry.getValue(), false);
+            out.append(LINE_SEPARATOR);
+        }
+    }
+
+    private static void escape(final Appendable out, final String text, final boolean key) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case ' ' -> {
+                    if (i == 0 || key) {
+                        out.append('\\');
+                    }
+                    out.append(' ');
+                }
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\f' -> out.append("\\f");
+                case '=', ':', '#', '!', '\\' -> out.append('\\').append(c);
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -23,37 +23,58 @@
  */
 package io.github.namiuni.doburoku.annotation.processor;
 
+import io.github.namiuni.doburoku.annotation.BinaryBundleFormat;
+import io.github.namiuni.doburoku.annotation.PluralCategory;
+import io.github.namiuni.doburoku.annotation.PluralRules;
+import io.github.namiuni.doburoku.annotation.annotations.Coalesce;
+import io.github.namiuni.doburoku.annotation.annotations.Joining;
 import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.KeyPrefix;
+import io.github.namiuni.doburoku.annotation.annotations.Lines;
+import io.github.namiuni.doburoku.annotation.annotations.Name;
+import io.github.namiuni.doburoku.annotation.annotations.Plural;
 import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
 import io.github.namiuni.doburoku.annotation.annotations.Value;
 import io.github.namiuni.doburoku.annotation.annotations.Values;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.RecordComponentElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import javax.tools.StandardLocation;
-import org.jspecify.annotations.NonNull;
 
 /**
  * An annotation processor that generates Java {@link java.util.ResourceBundle} property files
@@ -63,6 +84,11 @@ import org.jspecify.annotations.NonNull;
  * {@link Values} annotations
  * to construct translation keys and values. It then writes these into standard
  * `.properties` files, grouped by locale.</p>
+ *
+ * <p>Entries of all interfaces that share a base name are merged into a single set of bundles, which are
+ * written once every round has been processed. Bundles are rendered in a single sorted pass without a
+ * timestamp, so the output is deterministic. The processor is registered with Gradle as an incremental
+ * aggregating processor.</p>
  */
 @SuppressWarnings("unused")
 @SupportedAnnotationTypes({
@@ -72,34 +98,81 @@ import org.jspecify.annotations.NonNull;
         "io.github.namiuni.doburoku.annotation.annotations.Values"
 })
 @SupportedSourceVersion(SourceVersion.RELEASE_21)
+@SupportedOptions({
+        ResourceBundleProcessor.BINARY_BUNDLE_OPTION,
+        ResourceBundleProcessor.PRECOMPILED_BUNDLE_OPTION,
+        ResourceBundleProcessor.DELTA_BUNDLE_OPTION,
+        ResourceBundleProcessor.COMPONENT_BUNDLE_OPTION
+})
 public final class ResourceBundleProcessor extends AbstractProcessor {
 
+    /**
+     * Processor option that additionally emits one binary bundle ({@code <baseName>.dbb}) per base name.
+     */
+    public static final String BINARY_BUNDLE_OPTION = "doburoku.binaryBundle";
+
+    /**
+     * Processor option that additionally generates Java classes serving the bundle entries of each base name.
+     *
+     * <p>The generated {@code <Name>Translations} class is placed in the package of the first originating
+     * interface and implements {@code io.github.namiuni.doburoku.standard.translation.TranslationSource}.</p>
+     */
+    public static final String PRECOMPILED_BUNDLE_OPTION = "doburoku.precompiledBundle";
+
+    /**
+     * Processor option that writes each locale with only the entries that differ from its fallback parents.
+     *
+     * <p>A regional bundle such as {@code messages_en_US.properties} omits the entries it inherits from
+     * {@code messages_en.properties} or the root bundle, so lookups must fall back through the parent chain,
+     * as {@link java.util.ResourceBundle} and {@code TranslationSource#lookup} do.</p>
+     */
+    public static final String DELTA_BUNDLE_OPTION = "doburoku.deltaBundle";
+
+    /**
+     * Processor option that validates every value as MiniMessage and additionally writes the parsed component
+     * trees ({@code <baseName>_<locale>.components.json}).
+     *
+     * <p>Unknown tags and tags with invalid arguments are reported as compile errors. Placeholders are stored as
+     * slots referring to the parameter that fills them.</p>
+     */
+    public static final String COMPONENT_BUNDLE_OPTION = "doburoku.componentBundle";
+
     private static final Pattern CAMEL_CASE_PATTERN = Pattern.compile("(?=\\p{Upper})");
+    private static final String LIST_TYPE = "java.util.List";
+    private static final String COMPONENT_TYPE = "net.kyori.adventure.text.Component";
+    private static final String COUNT_SLOT_NAME = "count";
+    private static final String PLURAL_SLOT_NAME = "doburoku_plural_count";
+    private static final String HEADER_COMMENT = "Generated by ResourceBundleProcessor";
+    private static final String COMPONENT_BUNDLE_EXTENSION = ".components.json";
 
-    private static final Supplier<Properties> SORTED_PROPERTIES = () -> new Properties() {
-        @Override
-        public synchronized @NonNull Set<Map.Entry<Object, Object>> entrySet() {
-            return Set.copyOf(
-                    (Set<? extends Map.Entry<Object, Object>>) super.entrySet()
-                            .stream()
-                            .sorted(Comparator.comparing(entry -> entry.getKey().toString()))
-                            .collect(Collectors.toCollection(LinkedHashSet::new)));
-        }
-    };
+    private final Map<String, Bundle> bundles = new TreeMap<>();
+    // Qualified name of each generated bundle class, mapped to the base name it serves
+    private final Map<String, String> precompiledClasses = new HashMap<>();
 
     private Filer filer;
     private Messager messager;
+    private boolean binaryBundle;
+    private boolean precompiledBundle;
+    private boolean deltaBundle;
+    private ComponentTemplateCompiler componentCompiler;
 
     @Override
     public synchronized void init(final ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
         this.filer = processingEnv.getFiler();
         this.messager = processingEnv.getMessager();
+        this.binaryBundle = Boolean.parseBoolean(processingEnv.getOptions().get(BINARY_BUNDLE_OPTION));
+        this.precompiledBundle = Boolean.parseBoolean(processingEnv.getOptions().get(PRECOMPILED_BUNDLE_OPTION));
+        this.deltaBundle = Boolean.parseBoolean(processingEnv.getOptions().get(DELTA_BUNDLE_OPTION));
+        if (Boolean.parseBoolean(processingEnv.getOptions().get(COMPONENT_BUNDLE_OPTION))) {
+            this.componentCompiler = new ComponentTemplateCompiler();
+        }
     }
 
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
         if (roundEnv.processingOver()) {
+            this.writeBundles();
             return false;
         }
 
@@ -115,6 +188,11 @@ public final class ResourceBundleProcessor extends AbstractProcessor {
             this.processResourceBundleInterface((TypeElement) element);
         }
 
+        // Sources must be created before the last round so that they are compiled and processed normally
+        if (this.precompiledBundle) {
+            this.writePrecompiledBundles();
+        }
+
         return true;
     }
 
@@ -125,20 +203,62 @@ public final class ResourceBundleProcessor extends AbstractProcessor {
         }
 
         final String baseName = resourceBundleAnnotation.baseName();
-        final Map<String, Properties> localeProperties = new HashMap<>();
+        final Bundle bundle = this.bundles.computeIfAbsent(baseName, Bundle::new);
+        if (bundle.precompiled) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Resource bundle '%s' was already precompiled in an earlier round".formatted(baseName), typeElement);
+            return;
+        }
+        bundle.originatingElements.add(typeElement);
+
+        final String keyPrefix = this.getKeyPrefix(typeElement);
 
         // Process all methods in the interface
         for (final Element enclosedElement : typeElement.getEnclosedElements()) {
             if (enclosedElement.getKind() == ElementKind.METHOD) {
-                this.processMethod((ExecutableElement) enclosedElement, localeProperties);
+                this.processMethod((ExecutableElement) enclosedElement, bundle, keyPrefix);
+            }
+        }
+    }
+
+    // Mirrors AnnotationKeyResolver#prefix
+    private String getKeyPrefix(final TypeElement typeElement) {
+        final StringBuilder prefix = new StringBuilder();
+        final Element enclosingElement = typeElement.getEnclosingElement();
+        if (enclosingElement.getKind() == ElementKind.INTERFACE) {
+            prefix.append(this.getKeyPrefix((TypeElement) enclosingElement));
+
+            final Set<String> accessorPrefixes = new LinkedHashSet<>();
+            for (final Element enclosedElement : enclosingElement.getEnclosedElements()) {
+                final KeyPrefix accessorPrefix = enclosedElement.getAnnotation(KeyPrefix.class);
+                if (enclosedElement.getKind() == ElementKind.METHOD
+                        && accessorPrefix != null
+                        && this.processingEnv.getTypeUtils().isSameType(((ExecutableElement) enclosedElement).getReturnType(), typeElement.asType())) {
+                    accessorPrefixes.add(accessorPrefix.value());
+                }
+            }
+            if (accessorPrefixes.size() > 1) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Accessors of %s declare different key prefixes, but a child interface has one prefix: %s"
+                                .formatted(typeElement.getQualifiedName(), accessorPrefixes), typeElement);
             }
+            accessorPrefixes.stream().findFirst().ifPresent(accessorPrefix -> this.appendKeyPrefix(prefix, accessorPrefix));
         }
 
-        // Write properties files for each locale
-        this.writePropertiesFiles(baseName, localeProperties);
+        final KeyPrefix keyPrefix = typeElement.getAnnotation(KeyPrefix.class);
+        if (keyPrefix != null) {
+            this.appendKeyPrefix(prefix, keyPrefix.value());
+        }
+        return prefix.toString();
     }
 
-    private void processMethod(final ExecutableElement method, final Map<String, Properties> localeProperties) {
+    private void appendKeyPrefix(final StringBuilder prefix, final String segment) {
+        if (!segment.isEmpty()) {
+            prefix.append(segment).append('.');
+        }
+    }
+
+    private void processMethod(final ExecutableElement method, final Bundle bundle, final String keyPrefix) {
         final Key keyAnnotation = method.getAnnotation(Key.class);
         if (keyAnnotation == null) {
             this.messager.printMessage(Diagnostic.Kind.WARNING,
@@ -146,20 +266,275 @@ public final class ResourceBundleProcessor extends AbstractProcessor {
             return;
         }
 
-        final String key = keyAnnotation.value();
+        final String key = keyPrefix + keyAnnotation.value();
 
         // Process @Value annotations (both single and repeatable)
         final Value[] valueAnnotations = this.getValueAnnotations(method);
+        final List<String> slotNames = this.componentCompiler == null ? List.of() : this.getSlotNames(method);
+
+        for (final VariableElement parameter : method.getParameters()) {
+            final Joining joiningAnnotation = parameter.getAnnotation(Joining.class);
+            if (joiningAnnotation != null && joiningAnnotation.limit() <= 0) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@Joining needs a positive limit for key '%s'".formatted(key), parameter);
+            }
+        }
+
+        final Lines linesAnnotation = method.getAnnotation(Lines.class);
+        if (linesAnnotation != null && linesAnnotation.value() <= 0) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@Lines needs a positive number of lines for key '%s'".formatted(key), method);
+            return;
+        }
+        if (linesAnnotation != null && !this.isComponentList(method.getReturnType())) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@Lines method must return List<Component> for key '%s'".formatted(key), method);
+            return;
+        }
+
+        final boolean plural = this.isPlural(method, key);
+        if (plural && linesAnnotation != null) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@Plural cannot be combined with @Lines for key '%s'".formatted(key), method);
+            return;
+        }
 
         for (final Value valueAnnotation : valueAnnotations) {
             final String localeKey = this.getLocaleKey(valueAnnotation.locale());
-            final String content = valueAnnotation.content();
+            if (plural) {
+                this.processPluralValue(method, bundle, valueAnnotation, localeKey, key, slotNames);
+                continue;
+            }
+            if (linesAnnotation == null) {
+                this.processValue(method, bundle, localeKey, key, valueAnnotation.content(), slotNames);
+                continue;
+            }
+
+            // One numbered key per line
+            final String[] lines = valueAnnotation.content().split("\n", -1);
+            if (lines.length != linesAnnotation.value()) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR,
+                        "Expected %d lines for key '%s' in resource bundle '%s' but got %d".formatted(
+                                linesAnnotation.value(), key, bundle.baseName + localeKey, lines.length), method);
+                continue;
+            }
+            for (int i = 0; i < lines.length; i++) {
+                this.processValue(method, bundle, localeKey, key + "." + (i + 1), lines[i], slotNames);
+            }
+        }
+    }
+
+    private boolean isPlural(final ExecutableElement method, final String key) {
+        int count = 0;
+        for (final VariableElement parameter : method.getParameters()) {
+            if (parameter.getAnnotation(Plural.class) == null) {
+                continue;
+            }
+            count++;
+            if (!this.isIntegral(parameter.asType())) {
+                this.messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@Plural parameter must be an integral number for key '%s'".formatted(key), parameter);
+            }
+        }
+        if (count > 1) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Only one @Plural parameter is allowed for key '%s'".formatted(key), method);
+        }
+        return count > 0;
+    }
+
+    private boolean isIntegral(final TypeMirror type) {
+        final TypeKind kind = type.getKind().isPrimitive()
+                ? type.getKind()
+                : this.unboxedKind(type);
+        return kind == TypeKind.BYTE || kind == TypeKind.SHORT || kind == TypeKind.INT || kind == TypeKind.LONG;
+    }
+
+    // Mirrors the runtime: a List whose elements are read as a supertype of Component
+    private boolean isComponentList(final TypeMirror type) {
+        final Types types = this.processingEnv.getTypeUtils();
+        final Elements elements = this.processingEnv.getElementUtils();
+        if (!types.isAssignable(types.erasure(elements.getTypeElement(LIST_TYPE).asType()), types.erasure(type))) {
+            return false;
+        }
+
+        final TypeElement component = elements.getTypeElement(COMPONENT_TYPE);
+        if (component == null || !(type instanceof final DeclaredType declared) || declared.getTypeArguments().size() != 1) {
+            return true;
+        }
+        TypeMirror elementType = declared.getTypeArguments().getFirst();
+        if (elementType instanceof final WildcardType wildcard) {
+            elementType = wildcard.getExtendsBound();
+            if (elementType == null) {
+                return true;
+            }
+        }
+        return types.isAssignable(component.asType(), elementType);
+    }
+
+    private TypeKind unboxedKind(final TypeMirror type) {
+        try {
+            return this.processingEnv.getTypeUtils().unboxedType(type).getKind();
+        } catch (final IllegalArgumentException e) {
+            return TypeKind.NONE;
+        }
+    }
+
+    // One key per plural category, every category the locale can select must be present
+    private void processPluralValue(
+            final ExecutableElement method,
+            final Bundle bundle,
+            final Value valueAnnotation,
+            final String localeKey,
+            final String key,
+            final List<String> slotNames
+    ) {
+        final String bundleName = bundle.baseName + localeKey;
+        final Map<PluralCategory, String> forms = new EnumMap<>(PluralCategory.class);
+        final String problem = parsePluralForms(valueAnnotation.content(), forms);
+        if (problem != null) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Invalid plural forms for key '%s' in resource bundle '%s': %s".formatted(key, bundleName, problem), method);
+            return;
+        }
+
+        final Set<PluralCategory> missing = EnumSet.copyOf(PluralRules.categories(valueAnnotation.locale().getLocale()));
+        missing.removeAll(forms.keySet());
+        if (!missing.isEmpty()) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Missing plural forms %s for key '%s' in resource bundle '%s'".formatted(
+                            missing.stream().map(PluralCategory::suffix).toList(), key, bundleName), method);
+            return;
+        }
+
+        forms.forEach((category, content) ->
+                this.processValue(method, bundle, localeKey, key + "." + category.suffix(), content, slotNames));
+    }
+
+    // Parses category{text} pairs, returning a description of the problem or null if the content is valid
+    private static String parsePluralForms(final String content, final Map<PluralCategory, String> forms) {
+        int index = 0;
+        while (true) {
+            while (index < content.length() && Character.isWhitespace(content.charAt(index))) {
+                index++;
+            }
+            if (index == content.length()) {
+                return forms.isEmpty() ? "expected forms such as one{...} other{...}" : null;
+            }
+
+            final int open = content.indexOf('{', index);
+            if (open < 0) {
+                return "expected '{' after '%s'".formatted(content.substring(index).strip());
+            }
+            final String name = content.substring(index, open).strip();
+            final PluralCategory category = PluralCategory.fromSuffix(name);
+            if (category == null) {
+                return "unknown plural category '%s'".formatted(name);
+            }
+
+            int depth = 1;
+            int close = open + 1;
+            while (close < content.length() && depth > 0) {
+                final char c = content.charAt(close);
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth--;
+                }
+                close++;
+            }
+            if (depth > 0) {
+                return "unclosed form '%s'".formatted(name);
+            }
+            if (forms.put(category, content.substring(open + 1, close - 1)) != null) {
+                return "duplicate form '%s'".formatted(name);
+            }
+            index = close;
+        }
+    }
+
+    private void processValue(
+            final ExecutableElement method,
+            final Bundle bundle,
+            final String localeKey,
+            final String key,
+            final String content,
+            final List<String> slotNames
+    ) {
+        final String previous = bundle.locales
+                .computeIfAbsent(localeKey, k -> new TreeMap<>())
+                .putIfAbsent(key, content);
+        if (previous != null && !previous.equals(content)) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Conflicting values for key '%s' in resource bundle '%s'".formatted(key, bundle.baseName + localeKey), method);
+        }
+
+        if (this.componentCompiler != null) {
+            this.compileComponent(method, bundle, localeKey, key, content, slotNames);
+        }
+    }
 
-            localeProperties.computeIfAbsent(localeKey, k -> SORTED_PROPERTIES.get())
-                    .setProperty(key, content);
+    private void compileComponent(
+            final ExecutableElement method,
+            final Bundle bundle,
+            final String localeKey,
+            final String key,
+            final String content,
+            final List<String> slotNames
+    ) {
+        try {
+            final String component = this.componentCompiler.compile(content, slotNames);
+            bundle.components
+                    .computeIfAbsent(localeKey, k -> new TreeMap<>())
+                    .putIfAbsent(key, component);
+        } catch (final IllegalArgumentException e) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Invalid MiniMessage for key '%s' in resource bundle '%s': %s".formatted(key, bundle.baseName + localeKey, e.getMessage()), method);
         }
     }
 
+    // Mirrors the argument names of MiniMessageArgumentTransformer
+    private List<String> getSlotNames(final ExecutableElement method) {
+        final List<String> slotNames = new ArrayList<>(method.getParameters().size());
+        for (final VariableElement parameter : method.getParameters()) {
+            slotNames.add(this.getSlotName(parameter));
+        }
+
+        // Record-typed parameters are expanded into one extra argument per record component
+        for (final VariableElement parameter : method.getParameters()) {
+            if (parameter.asType() instanceof final DeclaredType type && type.asElement().getKind() == ElementKind.RECORD) {
+                final String prefix = this.getSlotName(parameter);
+                for (final RecordComponentElement component : ((TypeElement) type.asElement()).getRecordComponents()) {
+                    slotNames.add(prefix + "_" + this.snakeCase(component.getSimpleName()));
+                }
+            }
+        }
+
+        // Plural messages get their raw count appended as an extra argument
+        if (method.getParameters().stream().anyMatch(parameter -> parameter.getAnnotation(Plural.class) != null)) {
+            slotNames.add(PLURAL_SLOT_NAME);
+        }
+
+        // Counted messages get the number of repeats appended as an extra argument
+        final Coalesce coalesce = method.getAnnotation(Coalesce.class);
+        if (coalesce != null && coalesce.mode() == Coalesce.Mode.COUNT) {
+            slotNames.add(COUNT_SLOT_NAME);
+        }
+        return slotNames;
+    }
+
+    private String getSlotName(final VariableElement parameter) {
+        final Name nameAnnotation = parameter.getAnnotation(Name.class);
+        if (nameAnnotation != null) {
+            return nameAnnotation.value();
+        }
+        return this.snakeCase(parameter.getSimpleName());
+    }
+
+    private String snakeCase(final CharSequence name) {
+        return String.join("_", CAMEL_CASE_PATTERN.split(name)).toLowerCase(Locale.ROOT);
+    }
+
     private Value[] getValueAnnotations(final ExecutableElement method) {
         final Values valuesAnnotation = method.getAnnotation(Values.class);
         if (valuesAnnotation != null) {
@@ -182,25 +557,166 @@ public final class ResourceBundleProcessor extends AbstractProcessor {
         return "_" + locale;
     }
 
-    private void writePropertiesFiles(final String baseName, final Map<String, Properties> localeProperties) {
-        for (final Map.Entry<String, Properties> entry : localeProperties.entrySet()) {
+    private void writeBundles() {
+        for (final Bundle bundle : this.bundles.values()) {
+            final Element[] originatingElements = bundle.originatingElements.toArray(Element[]::new);
+            final Map<String, SortedMap<String, String>> locales = this.encode(bundle);
+            for (final Map.Entry<String, SortedMap<String, String>> entry : locales.entrySet()) {
+                this.writePropertiesFile(bundle.baseName + entry.getKey() + ".properties", entry.getValue(), originatingElements);
+            }
+            if (this.binaryBundle) {
+                this.writeBinaryBundle(bundle.baseName, locales, originatingElements);
+            }
+            if (this.componentCompiler != null) {
+                final Map<String, SortedMap<String, String>> components = this.deltaBundle
+                        ? BundleDeltaEncoder.encode(bundle.components)
+                        : bundle.components;
+                for (final Map.Entry<String, SortedMap<String, String>> entry : components.entrySet()) {
+                    this.writeComponentFile(bundle.baseName + entry.getKey() + COMPONENT_BUNDLE_EXTENSION, entry.getValue(), originatingElements);
+                }
+            }
+        }
+        this.bundles.clear();
+    }
+
+    private void writePropertiesFile(final String fileName, final SortedMap<String, String> entries, final Element... originatingElements) {
+        final StringBuilder content = new StringBuilder(PropertiesWriter.estimateLength(HEADER_COMMENT, entries));
+        try {
+            PropertiesWriter.write(content, HEADER_COMMENT, entries);
+        } catch (final IOException e) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write properties file: " + fileName + " - " + e.getMessage());
+            return;
+        }
+
+        try (Writer writer = this.filer.createResource(StandardLocation.CLASS_OUTPUT, "", fileName, originatingElements)
+                .openWriter()) {
+
+            writer.append(content);
+
+            this.messager.printMessage(Diagnostic.Kind.NOTE,
+                    "Generated resource bundle: " + fileName);
+
+        } catch (final IOException e) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write properties file: " + fileName + " - " + e.getMessage());
+        }
+    }
+
+    private void writeComponentFile(final String fileName, final SortedMap<String, String> components, final Element... originatingElements) {
+        final StringBuilder content = new StringBuilder("{");
+        for (final Map.Entry<String, String> entry : components.entrySet()) {
+            content.append(content.length() == 1 ? "\n  " : ",\n  ");
+            ComponentTemplateCompiler.appendJsonString(content, entry.getKey());
+            content.append(": ").append(entry.getValue());
+        }
+        content.append(components.isEmpty() ? "}\n" : "\n}\n");
+
+        try (Writer writer = this.filer.createResource(StandardLocation.CLASS_OUTPUT, "", fileName, originatingElements)
+                .openWriter()) {
+
+            writer.append(content);
+
+            this.messager.printMessage(Diagnostic.Kind.NOTE,
+                    "Generated component bundle: " + fileName);
+
+        } catch (final IOException e) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write component bundle: " + fileName + " - " + e.getMessage());
+        }
+    }
+
+    private Map<String, SortedMap<String, String>> encode(final Bundle bundle) {
+        return this.deltaBundle ? BundleDeltaEncoder.encode(bundle.locales) : bundle.locales;
+    }
+
+    private void writeBinaryBundle(final String baseName, final Map<String, SortedMap<String, String>> locales, final Element... originatingElements) {
+        final Map<String, SortedMap<String, String>> tags = new LinkedHashMap<>();
+        for (final Map.Entry<String, SortedMap<String, String>> entry : locales.entrySet()) {
+            // Locale keys are file name suffixes ("" or "_en_US"); the binary bundle stores plain tags
             final String localeKey = entry.getKey();
-            final Properties properties = entry.getValue();
+            tags.put(localeKey.isEmpty() ? localeKey : localeKey.substring(1), entry.getValue());
+        }
+
+        final String fileName = baseName + BinaryBundleFormat.EXTENSION;
+        final byte[] content = BinaryBundleWriter.write(tags);
 
-            final String fileName = baseName + localeKey + ".properties";
+        try (OutputStream stream = this.filer.createResource(StandardLocation.CLASS_OUTPUT, "", fileName, originatingElements)
+                .openOutputStream()) {
 
-            try (Writer writer = this.filer.createResource(StandardLocation.CLASS_OUTPUT, "", fileName)
-                    .openWriter()) {
+            stream.write(content);
 
-                properties.store(writer, "Generated by ResourceBundleProcessor");
+            this.messager.printMessage(Diagnostic.Kind.NOTE,
+                    "Generated binary bundle: " + fileName);
 
-                this.messager.printMessage(Diagnostic.Kind.NOTE,
-                        "Generated resource bundle: " + fileName);
+        } catch (final IOException e) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write binary bundle: " + fileName + " - " + e.getMessage());
+        }
+    }
+
+    private void writePrecompiledBundles() {
+        for (final Bundle bundle : this.bundles.values()) {
+            if (bundle.precompiled || bundle.originatingElements.isEmpty()) {
+                continue;
+            }
+            bundle.precompiled = true;
 
-            } catch (final IOException e) {
+            final Element[] originatingElements = bundle.originatingElements.toArray(Element[]::new);
+            final String packageName = bundle.originatingElements.stream()
+                    .map(element -> this.processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString())
+                    .sorted()
+                    .findFirst()
+                    .orElse("");
+            final String className = PrecompiledBundleWriter.className(bundle.baseName);
+            final String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+            final String claimedBy = this.precompiledClasses.putIfAbsent(qualifiedName, bundle.baseName);
+            if (claimedBy != null) {
                 this.messager.printMessage(Diagnostic.Kind.ERROR,
-                        "Failed to write properties file: " + fileName + " - " + e.getMessage());
+                        "Resource bundles '%s' and '%s' both precompile to class %s; rename one of the base names".formatted(
+                                claimedBy, bundle.baseName, qualifiedName), originatingElements[0]);
+                continue;
+            }
+
+            final SortedMap<String, String> localeClasses = new TreeMap<>();
+            for (final Map.Entry<String, SortedMap<String, String>> entry : this.encode(bundle).entrySet()) {
+                final String localeKey = entry.getKey();
+                final String localeTag = localeKey.isEmpty() ? localeKey : localeKey.substring(1);
+                final String localeClassName = PrecompiledBundleWriter.localeClassName(className, localeTag);
+                localeClasses.put(localeTag, localeClassName);
+                this.writeSourceFile(packageName, localeClassName,
+                        PrecompiledBundleWriter.localeClass(packageName, localeClassName, entry.getValue()), originatingElements);
             }
+            this.writeSourceFile(packageName, className,
+                    PrecompiledBundleWriter.bundleClass(packageName, className, localeClasses), originatingElements);
+        }
+    }
+
+    private void writeSourceFile(final String packageName, final String className, final String content, final Element... originatingElements) {
+        final String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = this.filer.createSourceFile(qualifiedName, originatingElements).openWriter()) {
+
+            writer.write(content);
+
+            this.messager.printMessage(Diagnostic.Kind.NOTE,
+                    "Generated precompiled bundle: " + qualifiedName);
+
+        } catch (final IOException e) {
+            this.messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write precompiled bundle: " + qualifiedName + " - " + e.getMessage());
+        }
+    }
+
+    private static final class Bundle {
+
+        private final String baseName;
+        private final Set<Element> originatingElements = new LinkedHashSet<>();
+        private final Map<String, SortedMap<String, String>> locales = new TreeMap<>();
+        private final Map<String, SortedMap<String, String>> components = new TreeMap<>();
+        private boolean precompiled;
+
+        private Bundle(final String baseName) {
+            this.baseName = baseName;
         }
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import io.github.namiuni.doburoku.annotation.BinaryBundleFormat;
+import io.github.namiuni.doburoku.standard.translation.BinaryTranslationSource;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BinaryBundleWriterTest {
+
+    private static final Map<String, Map<String, String>> LOCALES = new LinkedHashMap<>();
+
+    static {
+        LOCALES.put("", Map.of("greeting", "Hello", "farewell", "Bye"));
+        LOCALES.put("ja_JP", Map.of("greeting", "こんにちは", "日本.key", "値"));
+    }
+
+    @Test
+    @DisplayName("Verify that a written bundle is memory-mapped and looked up per locale")
+    void testRoundTrip() throws IOException {
+        final Path file = Files.createTempFile("doburoku-bundle", BinaryBundleFormat.EXTENSION);
+        Files.write(file, BinaryBundleWriter.write(LOCALES));
+
+        final BinaryTranslationSource source = BinaryTranslationSource.map(file);
+
+        assertEquals(Set.of(Locale.ROOT, Locale.JAPAN), source.locales());
+        assertEquals("Hello", source.message("greeting", Locale.ROOT));
+        assertEquals("Bye", source.message("farewell", Locale.ROOT));
+        assertEquals("こんにちは", source.message("greeting", Locale.JAPAN));
+        assertEquals("値", source.message("日本.key", Locale.JAPAN));
+        assertEquals("こんにちは", source.message("greeting", Locale.JAPAN));
+    }
+
+    @Test
+    @DisplayName("Verify that keys and locales without a value are absent")
+    void testAbsentEntries() {
+        final BinaryTranslationSource source = BinaryTranslationSource.of(ByteBuffer.wrap(BinaryBundleWriter.write(LOCALES)));
+
+        assertNull(source.message("farewell", Locale.JAPAN));
+        assertNull(source.message("unknown", Locale.ROOT));
+        assertNull(source.message("unknown", Locale.ROOT));
+        assertNull(source.message("greeting", Locale.US));
+    }
+
+    @Test
+    @DisplayName("Verify error when the bundle was written with another format version")
+    void testVersionMismatch() {
+        final ByteBuffer buffer = ByteBuffer.wrap(BinaryBundleWriter.write(LOCALES));
+        buffer.putInt(Integer.BYTES, BinaryBundleFormat.VERSION + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryTranslationSource.of(buffer));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BundleDeltaEncoderTest {
+
+    private static final List<String> KEYS = List.of("color", "farewell", "greeting");
+    private static final List<String> LOCALES = List.of("", "_en", "_en_US", "_en_GB", "_en_AU", "_fr", "_fr_FR");
+
+    @Test
+    @DisplayName("Verify that every locale resolves the same values after encoding")
+    void testResolutionIsUnchanged() {
+        final Map<String, SortedMap<String, String>> locales = new TreeMap<>();
+        locales.put("", bundle("color", "Color", "greeting", "Hello"));
+        locales.put("_en_US", bundle("color", "Color", "farewell", "Bye"));
+        locales.put("_en_GB", bundle("color", "Colour", "farewell", "Bye"));
+        locales.put("_fr_FR", bundle("greeting", "Bonjour"));
+
+        final Map<String, SortedMap<String, String>> encoded = BundleDeltaEncoder.encode(locales);
+
+        assertEquals(locales.keySet(), encoded.keySet());
+        for (final String locale : LOCALES) {
+            for (final String key : KEYS) {
+                assertEquals(resolve(locales, locale, key), resolve(encoded, locale, key), locale + " " + key);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify that a language-only locale and an unlisted region keep falling back to the root bundle")
+    void testEntriesSharedByRegionsAreNotHoisted() {
+        final Map<String, SortedMap<String, String>> locales = new TreeMap<>();
+        locales.put("", bundle("greeting", "Hello"));
+        locales.put("_en_US", bundle("farewell", "Bye"));
+        locales.put("_en_GB", bundle("farewell", "Bye"));
+
+        final Map<String, SortedMap<String, String>> encoded = BundleDeltaEncoder.encode(locales);
+
+        assertFalse(encoded.containsKey("_en"));
+        assertNull(resolve(encoded, "_en", "farewell"));
+        assertNull(resolve(encoded, "_en_AU", "farewell"));
+        assertEquals("Hello", resolve(encoded, "_en_AU", "greeting"));
+        assertEquals("Bye", resolve(encoded, "_en_GB", "farewell"));
+    }
+
+    @Test
+    @DisplayName("Verify that entries inherited from an existing language bundle are dropped")
+    void testInheritedEntriesAreDropped() {
+        final Map<String, SortedMap<String, String>> locales = new TreeMap<>();
+        locales.put("", bundle("greeting", "Hello"));
+        locales.put("_en", bundle("farewell", "Bye", "greeting", "Hello"));
+        locales.put("_en_US", bundle("farewell", "Bye", "greeting", "Howdy"));
+
+        final Map<String, SortedMap<String, String>> encoded = BundleDeltaEncoder.encode(locales);
+
+        assertEquals(bundle("farewell", "Bye"), encoded.get("_en"));
+        assertEquals(bundle("greeting", "Howdy"), encoded.get("_en_US"));
+    }
+
+    private static SortedMap<String, String> bundle(final String... entries) {
+        final SortedMap<String, String> bundle = new TreeMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            bundle.put(entries[i], entries[i + 1]);
+        }
+        return bundle;
+    }
+
+    // Falls back like java.util.ResourceBundle: _en_AU, _en, then the root bundle
+    private static String resolve(final Map<String, SortedMap<String, String>> locales, final String locale, final String key) {
+        for (String current = locale; ; current = current.substring(0, current.lastIndexOf('_'))) {
+            final SortedMap<String, String> entries = locales.get(current);
+            if (entries != null && entries.containsKey(key)) {
+                return entries.get(key);
+            }
+            if (current.isEmpty()) {
+                return null;
+            }
+        }
+    }
+}
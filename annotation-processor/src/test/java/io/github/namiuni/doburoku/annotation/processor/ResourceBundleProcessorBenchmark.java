@@ -0,0 +1,148 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures processing time and heap usage of {@link ResourceBundleProcessor} for synthetic interfaces.
+ *
+ * <p>Run with {@code ./gradlew :doburoku-annotation-processor:benchmark}.</p>
+ */
+@Tag("benchmark")
+class ResourceBundleProcessorBenchmark {
+
+    // Keeps every interface well below the class file constant pool limit
+    private static final int KEYS_PER_INTERFACE = 1_000;
+    private static final String BASE_NAME = "benchmark";
+    private static final String[] LOCALES = {"ROOT", "EN_US", "JA_JP", "DE_DE", "FR_FR"};
+
+    private static final int WARMUP_ITERATIONS = 1;
+
+    @Test
+    @DisplayName("Process 1k keys")
+    void process1k() {
+        this.benchmark(1_000);
+    }
+
+    @Test
+    @DisplayName("Process 10k keys")
+    void process10k() {
+        this.benchmark(10_000);
+    }
+
+    @Test
+    @DisplayName("Process 50k keys")
+    void process50k() {
+        this.benchmark(50_000);
+    }
+
+    @Test
+    @DisplayName("Write 50k entries with PropertiesWriter")
+    void write50k() throws Exception {
+        final SortedMap<String, String> entries = new TreeMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            entries.put("benchmark.key." + i, "Hello <player>, you have " + i + " messages!");
+        }
+
+        final long start = System.nanoTime();
+        final StringBuilder out = new StringBuilder(PropertiesWriter.estimateLength("benchmark", entries));
+        PropertiesWriter.write(out, "benchmark", entries);
+        final long elapsed = System.nanoTime() - start;
+
+        System.out.printf("[PropertiesWriter] 50000 entries: %.2f ms, %d chars%n", elapsed / 1_000_000.0, out.length());
+    }
+
+    private void benchmark(final int keys) {
+        final List<JavaFileObject> sources = createSources(keys);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            this.compile(sources);
+        }
+
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        final long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        final long start = System.nanoTime();
+
+        final Compilation compilation = this.compile(sources);
+
+        final long elapsed = System.nanoTime() - start;
+        final long heapAfter = memory.getHeapMemoryUsage().getUsed();
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "", BASE_NAME + "_en_US.properties");
+
+        System.out.printf("[ResourceBundleProcessor] %d keys x %d locales: %.2f ms, ~%d KiB heap%n",
+                keys, LOCALES.length, elapsed / 1_000_000.0, Math.max(0, heapAfter - heapBefore) / 1024);
+    }
+
+    private Compilation compile(final List<JavaFileObject> sources) {
+        return javac()
+                .withProcessors(new ResourceBundleProcessor())
+                .withOptions("-proc:only")
+                .compile(sources);
+    }
+
+    private static List<JavaFileObject> createSources(final int keys) {
+        final List<JavaFileObject> sources = new ArrayList<>();
+        for (int offset = 0, index = 0; offset < keys; offset += KEYS_PER_INTERFACE, index++) {
+            final String name = "BenchmarkInterface" + index;
+            final StringBuilder source = new StringBuilder()
+                    .append("package test;\n")
+                    .append("import io.github.namiuni.doburoku.annotation.Locales;\n")
+                    .append("import io.github.namiuni.doburoku.annotation.annotations.Key;\n")
+                    .append("import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;\n")
+                    .append("import io.github.namiuni.doburoku.annotation.annotations.Value;\n")
+                    .append("@ResourceBundle(baseName = \"").append(BASE_NAME).append("\")\n")
+                    .append("public interface ").append(name).append(" {\n");
+
+            for (int key = offset; key < Math.min(keys, offset + KEYS_PER_INTERFACE); key++) {
+                source.append("    @Key(\"benchmark.key.").append(key).append("\")\n");
+                for (final String locale : LOCALES) {
+                    source.append("    @Value(locale = Locales.").append(locale)
+                            .append(", content = \"Hello <player>, message ").append(key).append(" in ").append(locale).append("\")\n");
+                }
+                source.append("    void message").append(key).append("();\n");
+            }
+
+            sources.add(JavaFileObjects.forSourceString("test." + name, source.append("}\n")));
+        }
+        return sources;
+    }
+}
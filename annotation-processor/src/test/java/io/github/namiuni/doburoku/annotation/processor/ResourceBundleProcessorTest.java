@@ -33,6 +33,7 @@ import com.google.testing.compile.JavaFileObjects;
 import java.util.Set;
 import javax.lang.model.SourceVersion;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -216,6 +217,506 @@ class ResourceBundleProcessorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Aggregation tests")
+    class AggregationTests {
+
+        @Test
+        @DisplayName("Verify that interfaces sharing a base name are merged into one bundle")
+        void testInterfacesSharingBaseNameAreMerged() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createSharedInterfaceSource("FirstInterface", "first.key", "First"),
+                            createSharedInterfaceSource("SecondInterface", "second.key", "Second"));
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "shared_en_US.properties")
+                    .contentsAsUtf8String()
+                    .contains("first.key=First");
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "shared_en_US.properties")
+                    .contentsAsUtf8String()
+                    .contains("second.key=Second");
+        }
+
+        @Test
+        @DisplayName("Verify that merged bundles are sorted and deterministic")
+        void testMergedBundleIsSortedAndDeterministic() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createSharedInterfaceSource("SecondInterface", "b.key", "B = b"),
+                            createSharedInterfaceSource("FirstInterface", "a.key", "A"));
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "shared_en_US.properties")
+                    .contentsAsUtf8String()
+                    .isEqualTo("""
+                            #Generated by ResourceBundleProcessor
+                            a.key=A
+                            b.key=B \\= b
+                            """);
+        }
+
+        @Test
+        @DisplayName("Verify that a binary bundle is generated per base name when enabled")
+        void testBinaryBundleIsGeneratedWhenEnabled() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .withOptions("-A" + ResourceBundleProcessor.BINARY_BUNDLE_OPTION + "=true")
+                    .compile(createSharedInterfaceSource("FirstInterface", "first.key", "First"),
+                            createSharedInterfaceSource("SecondInterface", "second.key", "Second"));
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "", "shared.dbb");
+            assertThat(compilation).hadNoteContaining("Generated binary bundle: shared.dbb");
+        }
+
+        @Test
+        @DisplayName("Verify that precompiled translation classes are generated per base name when enabled")
+        void testPrecompiledBundleIsGeneratedWhenEnabled() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .withOptions("-A" + ResourceBundleProcessor.PRECOMPILED_BUNDLE_OPTION + "=true")
+                    .compile(createSharedInterfaceSource("FirstInterface", "first.key", "First"),
+                            createSharedInterfaceSource("SecondInterface", "second.key", "Second"));
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedSourceFile(TEST_PACKAGE + ".SharedTranslations")
+                    .contentsAsUtf8String()
+                    .contains("implements io.github.namiuni.doburoku.standard.translation.TranslationSource");
+            assertThat(compilation)
+                    .generatedSourceFile(TEST_PACKAGE + ".SharedTranslations_en_US")
+                    .contentsAsUtf8String()
+                    .contains("case \"second.key\" -> \"Second\";");
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "shared_en_US.properties");
+        }
+
+        @Test
+        @DisplayName("Verify error when two base names precompile to the same class")
+        void testPrecompiledClassNameCollision() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .withOptions("-A" + ResourceBundleProcessor.PRECOMPILED_BUNDLE_OPTION + "=true")
+                    .compile(createBundleInterfaceSource("FirstInterface", "my-messages"),
+                            createBundleInterfaceSource("SecondInterface", "my_messages"));
+
+            assertThat(compilation).hadErrorContaining(
+                    "Resource bundles 'my-messages' and 'my_messages' both precompile to class test.MyMessagesTranslations");
+        }
+
+        @Test
+        @DisplayName("Verify that delta bundles only contain entries that differ from their fallback parents")
+        void testDeltaBundleOmitsInheritedEntries() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".RegionalInterface",
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+
+                            @ResourceBundle(baseName = "regional")
+                            public interface RegionalInterface {
+                                @Key("color")
+                                @Value(locale = Locales.ROOT, content = "Color")
+                                @Value(locale = Locales.EN_US, content = "Color")
+                                @Value(locale = Locales.EN_GB, content = "Colour")
+                                void color();
+
+                                @Key("farewell")
+                                @Value(locale = Locales.EN_US, content = "Bye")
+                                @Value(locale = Locales.EN_GB, content = "Bye")
+                                void farewell();
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .withOptions("-A" + ResourceBundleProcessor.DELTA_BUNDLE_OPTION + "=true")
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertFalse(compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "", "regional_en.properties").isPresent());
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "regional_en_GB.properties")
+                    .contentsAsUtf8String()
+                    .isEqualTo("#Generated by ResourceBundleProcessor\ncolor=Colour\nfarewell=Bye\n");
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "regional_en_US.properties")
+                    .contentsAsUtf8String()
+                    .isEqualTo("#Generated by ResourceBundleProcessor\nfarewell=Bye\n");
+        }
+
+        @Test
+        @DisplayName("Verify that identical values for the same key are merged without errors")
+        void testIdenticalValuesAreMerged() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createSharedInterfaceSource("FirstInterface", "same.key", "Same"),
+                            createSharedInterfaceSource("SecondInterface", "same.key", "Same"));
+
+            assertThat(compilation).succeeded();
+        }
+
+        @Test
+        @DisplayName("Verify error when interfaces sharing a base name declare conflicting values")
+        void testConflictingValues() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createSharedInterfaceSource("FirstInterface", "same.key", "First"),
+                            createSharedInterfaceSource("SecondInterface", "same.key", "Second"));
+
+            assertThat(compilation).hadErrorContaining("Conflicting values for key 'same.key'");
+        }
+
+        @Test
+        @DisplayName("Verify that multi-line values are split into one numbered key per line")
+        void testLinesAreSplitIntoNumberedKeys() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createLinesInterfaceSource(2, "Usage:\\n/help <page>", "List<Component>"));
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "lines_en_US.properties")
+                    .contentsAsUtf8String()
+                    .isEqualTo("#Generated by ResourceBundleProcessor\nhelp.1=Usage\\:\nhelp.2=/help <page>\n");
+        }
+
+        @Test
+        @DisplayName("Verify that interface and accessor key prefixes are applied to nested interfaces")
+        void testKeyPrefixes() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".PrefixedInterface",
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.KeyPrefix;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+
+                            @KeyPrefix("myplugin")
+                            @ResourceBundle(baseName = "prefixed")
+                            public interface PrefixedInterface {
+                                @Key("reload")
+                                @Value(locale = Locales.EN_US, content = "Reloaded")
+                                void reload();
+
+                                @KeyPrefix("shop")
+                                Shop shop();
+
+                                @ResourceBundle(baseName = "prefixed")
+                                interface Shop {
+                                    @Key("buy.success")
+                                    @Value(locale = Locales.EN_US, content = "Bought")
+                                    void bought();
+                                }
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "prefixed_en_US.properties")
+                    .contentsAsUtf8String()
+                    .isEqualTo("#Generated by ResourceBundleProcessor\nmyplugin.reload=Reloaded\nmyplugin.shop.buy.success=Bought\n");
+        }
+
+        @Test
+        @DisplayName("Verify error when a multi-line value has another number of lines")
+        void testLinesCountMismatch() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createLinesInterfaceSource(3, "Usage:\\n/help <page>", "List<Component>"));
+
+            assertThat(compilation).hadErrorContaining("Expected 3 lines for key 'help' in resource bundle 'lines_en_US' but got 2");
+        }
+
+        @Test
+        @DisplayName("Verify error when a multi-line method does not return a list of components")
+        void testLinesReturnType() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createLinesInterfaceSource(2, "Usage:\\n/help <page>", "List<String>"));
+
+            assertThat(compilation).hadErrorContaining("@Lines method must return List<Component> for key 'help'");
+        }
+
+        @Test
+        @DisplayName("Verify that plural forms are written as one key per category")
+        void testPluralFormsAreSplitIntoCategoryKeys() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createPluralInterfaceSource("EN_US", "one{<count> item} other{<count> items}"));
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "plural_en_US.properties")
+                    .contentsAsUtf8String()
+                    .isEqualTo("#Generated by ResourceBundleProcessor\nitems.one=<count> item\nitems.other=<count> items\n");
+        }
+
+        @Test
+        @DisplayName("Verify error when a plural form the locale needs is missing")
+        void testMissingPluralForm() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createPluralInterfaceSource("RU_RU", "one{<count> item} other{<count> items}"));
+
+            assertThat(compilation).hadErrorContaining("Missing plural forms [few, many] for key 'items' in resource bundle 'plural_ru_RU'");
+        }
+
+        @Test
+        @DisplayName("Verify error when a plural form has an unknown category")
+        void testUnknownPluralCategory() {
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(createPluralInterfaceSource("EN_US", "one{<count> item} several{<count> items}"));
+
+            assertThat(compilation).hadErrorContaining("unknown plural category 'several'");
+        }
+
+        private JavaFileObject createPluralInterfaceSource(final String locale, final String content) {
+            return JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".PluralInterface",
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.Plural;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+
+                            @ResourceBundle(baseName = "plural")
+                            public interface PluralInterface {
+                                @Key("items")
+                                @Value(locale = Locales.%s, content = "%s")
+                                void items(@Plural int count);
+                            }
+                            """.formatted(locale, content)
+            );
+        }
+
+        private JavaFileObject createLinesInterfaceSource(final int lines, final String content, final String returnType) {
+            return JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".LinesInterface",
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.Lines;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+                            import java.util.List;
+                            import net.kyori.adventure.text.Component;
+
+                            @ResourceBundle(baseName = "lines")
+                            public interface LinesInterface {
+                                @Key("help")
+                                @Lines(%d)
+                                @Value(locale = Locales.EN_US, content = "%s")
+                                %s help(String page);
+                            }
+                            """.formatted(lines, content, returnType)
+            );
+        }
+
+        private JavaFileObject createBundleInterfaceSource(final String name, final String baseName) {
+            return JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + "." + name,
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+
+                            @ResourceBundle(baseName = "%s")
+                            public interface %s {
+                                @Key("message")
+                                @Value(locale = Locales.EN_US, content = "Message")
+                                void message();
+                            }
+                            """.formatted(baseName, name)
+            );
+        }
+
+        private JavaFileObject createSharedInterfaceSource(final String name, final String key, final String content) {
+            return JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + "." + name,
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+
+                            @ResourceBundle(baseName = "shared")
+                            public interface %s {
+                                @Key("%s")
+                                @Value(locale = Locales.EN_US, content = "%s")
+                                void message();
+                            }
+                            """.formatted(name, key, content)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Component bundle tests")
+    class ComponentBundleTests {
+
+        @Test
+        @DisplayName("Verify that MiniMessage values are written as component trees with placeholder slots")
+        void testComponentBundleIsGenerated() {
+            final Compilation compilation = compileComponentBundle("<red>Hello <player_name> and <arg:1>!</red>");
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "components_en_US.components.json")
+                    .contentsAsUtf8String()
+                    .contains("doburoku.slot.0");
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "components_en_US.components.json")
+                    .contentsAsUtf8String()
+                    .contains("doburoku.slot.1");
+        }
+
+        @Test
+        @DisplayName("Verify error when a value uses an unknown tag")
+        void testUnknownTag() {
+            final Compilation compilation = compileComponentBundle("Hello <player>!");
+
+            assertThat(compilation).failed();
+            assertThat(compilation).hadErrorContaining("Unknown tag <player>");
+        }
+
+        @Test
+        @DisplayName("Verify error when a positional placeholder is out of range")
+        void testPositionalPlaceholderOutOfRange() {
+            final Compilation compilation = compileComponentBundle("Hello <arg:2>!");
+
+            assertThat(compilation).failed();
+            assertThat(compilation).hadErrorContaining("Tag <arg> needs an argument index between 0 and 1");
+        }
+
+        @Test
+        @DisplayName("Verify that counted coalesced messages get a count placeholder after their parameters")
+        void testCoalesceCountSlot() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".CoalesceInterface",
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Coalesce;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+
+                            @ResourceBundle(baseName = "coalesce")
+                            public interface CoalesceInterface {
+                                @Key("pickup")
+                                @Coalesce(window = 500, mode = Coalesce.Mode.COUNT)
+                                @Value(locale = Locales.EN_US, content = "Picked up <item> x<count>")
+                                void pickup(String item);
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .withOptions("-A" + ResourceBundleProcessor.COMPONENT_BUNDLE_OPTION + "=true")
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "coalesce_en_US.components.json")
+                    .contentsAsUtf8String()
+                    .contains("doburoku.slot.1");
+        }
+
+        @Test
+        @DisplayName("Verify that record parameters get a placeholder per record component after the parameters")
+        void testRecordComponentSlots() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".RecordInterface",
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+
+                            @ResourceBundle(baseName = "records")
+                            public interface RecordInterface {
+                                record PlayerStats(int kills, int killStreak) {
+                                }
+
+                                @Key("stats")
+                                @Value(locale = Locales.EN_US, content = "<player>: <stats_kills> kills, best streak <stats_kill_streak>")
+                                void stats(String player, PlayerStats stats);
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .withOptions("-A" + ResourceBundleProcessor.COMPONENT_BUNDLE_OPTION + "=true")
+                    .compile(testInterface);
+
+            assertThat(compilation).succeeded();
+            assertThat(compilation)
+                    .generatedFile(StandardLocation.CLASS_OUTPUT, "", "records_en_US.components.json")
+                    .contentsAsUtf8String()
+                    .contains("doburoku.slot.3");
+        }
+
+        private Compilation compileComponentBundle(final String content) {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".ComponentInterface",
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+
+                            @ResourceBundle(baseName = "components")
+                            public interface ComponentInterface {
+                                @Key("greeting")
+                                @Value(locale = Locales.EN_US, content = "%s")
+                                void greeting(String playerName, String world);
+                            }
+                            """.formatted(content)
+            );
+
+            return javac()
+                    .withProcessors(processor)
+                    .withOptions("-A" + ResourceBundleProcessor.COMPONENT_BUNDLE_OPTION + "=true")
+                    .compile(testInterface);
+        }
+    }
+
     @Nested
     @DisplayName("Error case tests")
     class ErrorCasesTests {
@@ -289,6 +790,37 @@ class ResourceBundleProcessorTest {
 
             assertThat(compilation).hadErrorContaining("@ResourceBundle can only be applied to interfaces");
         }
+
+        @Test
+        @DisplayName("Test error when @Joining has a non-positive limit")
+        void testJoiningWithNonPositiveLimit() {
+            final JavaFileObject testInterface = JavaFileObjects.forSourceString(
+                    TEST_PACKAGE + ".JoiningInterface",
+                    """
+                            package test;
+
+                            import io.github.namiuni.doburoku.annotation.Locales;
+                            import io.github.namiuni.doburoku.annotation.annotations.Joining;
+                            import io.github.namiuni.doburoku.annotation.annotations.Key;
+                            import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+                            import io.github.namiuni.doburoku.annotation.annotations.Value;
+                            import java.util.List;
+
+                            @ResourceBundle(baseName = "joining")
+                            public interface JoiningInterface {
+                                @Key("online")
+                                @Value(locale = Locales.EN_US, content = "Online: <players>")
+                                void online(@Joining(limit = 0) List<String> players);
+                            }
+                            """
+            );
+
+            final Compilation compilation = javac()
+                    .withProcessors(processor)
+                    .compile(testInterface);
+
+            assertThat(compilation).hadErrorContaining("@Joining needs a positive limit for key 'online'");
+        }
     }
 
     @Nested
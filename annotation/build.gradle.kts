@@ -1,5 +1,6 @@
 plugins {
     id("doburoku.base")
+    id("doburoku.testing")
     id("doburoku.maven-publish")
 }
 
@@ -0,0 +1,65 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Constants of the binary bundle format, shared by the annotation processor that writes the bundles
+ * and the translation source that reads them.
+ *
+ * <p>The layout is documented by the writer in the annotation processor. Bumping {@link #VERSION}
+ * makes readers reject bundles written with an incompatible layout.</p>
+ */
+@NullMarked
+public final class BinaryBundleFormat {
+
+    /**
+     * File extension of binary bundles.
+     */
+    public static final String EXTENSION = ".dbb";
+
+    /**
+     * The first integer of every bundle, {@code "DBRB"} in ASCII.
+     */
+    public static final int MAGIC = 0x44425242;
+
+    /**
+     * The version of the layout.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The number of integers in the header: magic, version, locale count, key count and string count.
+     */
+    public static final int HEADER_INTS = 5;
+
+    /**
+     * The value index of keys a locale has no value for.
+     */
+    public static final int ABSENT = -1;
+
+    private BinaryBundleFormat() {
+    }
+}
@@ -23,8 +23,13 @@
  */
 package io.github.namiuni.doburoku.annotation;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Enumeration of supported locales used by annotation declarations.
@@ -188,6 +193,30 @@ public enum Locales {
         this.locale = locale;
     }
 
+    /**
+     * Finds the constant for a locale string as sent by clients, such as {@code en_us}.
+     *
+     * <p>Matching ignores ASCII case and accepts {@code -} as well as {@code _} as separator, so
+     * {@code en_us}, {@code en_US} and {@code en-US} all resolve to {@link #EN_US}. The lookup runs in
+     * constant time on a perfect hash table and does not allocate.</p>
+     *
+     * @param clientLocale the locale string
+     * @return the matching constant, or {@code null} if there is none
+     */
+    public static @Nullable Locales fromClientLocale(final CharSequence clientLocale) {
+        return Lookup.find(clientLocale);
+    }
+
+    /**
+     * Finds the constant for a JDK locale.
+     *
+     * @param locale the locale
+     * @return the constant whose {@link #getLocale()} equals the locale, or {@code null} if there is none
+     */
+    public static @Nullable Locales fromLocale(final Locale locale) {
+        return Lookup.BY_LOCALE.get(locale);
+    }
+
     /**
      * Underlying JDK {@link Locale} for this constant.
      *
@@ -196,4 +225,114 @@ public enum Locales {
     public Locale getLocale() {
         return this.locale;
     }
+
+    /**
+     * Returns the locales a lookup for this constant falls back through, most specific first.
+     *
+     * <p>The chain is this locale, its language and {@link Locale#ROOT}, for example
+     * {@code en_US → en → ROOT}, following {@link java.util.ResourceBundle}. Chains are computed once
+     * per constant.</p>
+     *
+     * @return an unmodifiable list of locales, starting with {@link #getLocale()} and ending with {@link Locale#ROOT}
+     */
+    public List<Locale> fallbackChain() {
+        return Lookup.FALLBACK_CHAINS[this.ordinal()];
+    }
+
+    // Initialized on first use, after all constants exist
+    private static final class Lookup {
+
+        private static final Locales[] VALUES = Locales.values();
+        private static final String[] NAMES = new String[VALUES.length];
+        private static final Map<Locale, Locales> BY_LOCALE = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        private static final List<Locale>[] FALLBACK_CHAINS = new List[VALUES.length];
+        private static final @Nullable Locales[] TABLE;
+        private static final int MULTIPLIER;
+        private static final int SHIFT;
+
+        static {
+            for (final Locales value : VALUES) {
+                final Locale locale = value.locale;
+                NAMES[value.ordinal()] = locale.toString();
+                BY_LOCALE.putIfAbsent(locale, value);
+
+                final List<Locale> chain = new ArrayList<>(3);
+                chain.add(locale);
+                if (!locale.getCountry().isEmpty() || !locale.getVariant().isEmpty()) {
+                    chain.add(Locale.of(locale.getLanguage()));
+                }
+                if (!locale.equals(Locale.ROOT)) {
+                    chain.add(Locale.ROOT);
+                }
+                FALLBACK_CHAINS[value.ordinal()] = List.copyOf(chain);
+            }
+
+            // Multiplicative hashing into a sparse power-of-two table; search for a multiplier without collisions
+            int bits = 32 - Integer.numberOfLeadingZeros(VALUES.length * 16 - 1);
+            int multiplier = 0x9E3779B1;
+            int attempts = 0;
+            @Nullable Locales[] table;
+            while ((table = buildTable(bits, multiplier)) == null) {
+                // Even steps keep the multiplier odd
+                multiplier += 0x61C88646;
+                if (++attempts == 1 << 16) {
+                    bits++;
+                    attempts = 0;
+                }
+            }
+
+            TABLE = table;
+            MULTIPLIER = multiplier;
+            SHIFT = 32 - bits;
+        }
+
+        private Lookup() {
+        }
+
+        private static @Nullable Locales @Nullable [] buildTable(final int bits, final int multiplier) {
+            final @Nullable Locales[] table = new Locales[1 << bits];
+            for (final Locales value : VALUES) {
+                final int index = (hash(NAMES[value.ordinal()]) * multiplier) >>> (32 - bits);
+                if (table[index] != null) {
+                    return null;
+                }
+                table[index] = value;
+            }
+            return table;
+        }
+
+        private static @Nullable Locales find(final CharSequence clientLocale) {
+            final Locales candidate = TABLE[(hash(clientLocale) * MULTIPLIER) >>> SHIFT];
+            if (candidate == null) {
+                return null;
+            }
+
+            final String name = NAMES[candidate.ordinal()];
+            if (name.length() != clientLocale.length()) {
+                return null;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (fold(name.charAt(i)) != fold(clientLocale.charAt(i))) {
+                    return null;
+                }
+            }
+            return candidate;
+        }
+
+        private static int hash(final CharSequence value) {
+            int hash = 0;
+            for (int i = 0; i < value.length(); i++) {
+                hash = hash * 31 + fold(value.charAt(i));
+            }
+            return hash;
+        }
+
+        private static char fold(final char c) {
+            if (c >= 'A' && c <= 'Z') {
+                return (char) (c + ('a' - 'A'));
+            }
+            return c == '-' ? '_' : c;
+        }
+    }
 }
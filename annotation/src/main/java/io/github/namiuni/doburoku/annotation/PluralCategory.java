@@ -0,0 +1,95 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation;
+
+import java.util.Locale;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * CLDR plural categories.
+ *
+ * <p>Each category selects the key suffixed with its {@link #suffix()}, such as {@code items.few}.</p>
+ */
+@NullMarked
+public enum PluralCategory {
+
+    /**
+     * Zero, as in Arabic and Latvian.
+     */
+    ZERO,
+
+    /**
+     * Singular forms, such as {@code 1 item} in English or {@code 21 предмет} in Russian.
+     */
+    ONE,
+
+    /**
+     * Dual forms, as in Arabic, Hebrew and Slovenian.
+     */
+    TWO,
+
+    /**
+     * Paucal forms, such as {@code 2 przedmioty} in Polish.
+     */
+    FEW,
+
+    /**
+     * Forms for large or round numbers, such as {@code 5 przedmiotów} in Polish.
+     */
+    MANY,
+
+    /**
+     * The general form, also used when a message lacks the selected form.
+     */
+    OTHER;
+
+    private static final PluralCategory[] VALUES = values();
+
+    private final String suffix = this.name().toLowerCase(Locale.ROOT);
+
+    /**
+     * Gets the key suffix of this category, without the separating {@code '.'}.
+     *
+     * @return the lowercase category name
+     */
+    public String suffix() {
+        return this.suffix;
+    }
+
+    /**
+     * Finds the category with the given suffix.
+     *
+     * @param suffix the lowercase category name
+     * @return the category, or {@code null} if there is none
+     */
+    public static @Nullable PluralCategory fromSuffix(final String suffix) {
+        for (final PluralCategory category : VALUES) {
+            if (category.suffix.equals(suffix)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+
+import static io.github.namiuni.doburoku.annotation.PluralCategory.FEW;
+import static io.github.namiuni.doburoku.annotation.PluralCategory.MANY;
+import static io.github.namiuni.doburoku.annotation.PluralCategory.ONE;
+import static io.github.namiuni.doburoku.annotation.PluralCategory.OTHER;
+import static io.github.namiuni.doburoku.annotation.PluralCategory.TWO;
+import static io.github.namiuni.doburoku.annotation.PluralCategory.ZERO;
+
+/**
+ * CLDR plural rules for integer counts, precompiled per language.
+ *
+ * <p>Each rule is a lambda of integer comparisons and remainders, so selecting a category parses nothing
+ * and does not allocate. Only the categories an integer can reach are listed, for example Czech uses
+ * {@code one}, {@code few} and {@code other} while its {@code many} form only applies to fractions.
+ * A rule registered for a full locale such as {@code pt_PT} takes precedence over its language.
+ * Languages without an entry use the {@code one}/{@code other} rule of English.</p>
+ */
+@NullMarked
+public final class PluralRules {
+
+    private static final Entry DEFAULT = new Entry(EnumSet.of(ONE, OTHER), count -> Math.abs(count) == 1 ? ONE : OTHER);
+    private static final Map<String, Entry> RULES = new HashMap<>();
+
+    static {
+        register(EnumSet.of(OTHER), count -> OTHER,
+                "ig", "id", "ja", "jbo", "km", "ko", "lo", "lzh", "ms", "my", "th", "vi", "yo", "zh", "zlm");
+        register(EnumSet.of(ONE, OTHER), count -> count <= 1 ? ONE : OTHER,
+                "fa", "hi", "hy");
+        register(EnumSet.of(ONE, OTHER), count -> count % 10 == 4 || count % 10 == 6 || count % 10 == 9 ? OTHER : ONE,
+                "fil", "tl");
+        register(EnumSet.of(ONE, OTHER), count -> count % 10 == 1 && count % 100 != 11 ? ONE : OTHER,
+                "is", "mk");
+        register(EnumSet.of(ONE, MANY, OTHER), count -> {
+            if (count == 1) {
+                return ONE;
+            }
+            return count != 0 && count % 1_000_000 == 0 ? MANY : OTHER;
+        }, "ca", "es", "it", "pt_PT", "val");
+        register(EnumSet.of(ONE, MANY, OTHER), count -> {
+            if (count <= 1) {
+                return ONE;
+            }
+            return count % 1_000_000 == 0 ? MANY : OTHER;
+        }, "fr", "pt");
+        register(EnumSet.of(ONE, FEW, MANY), count -> {
+            final long mod10 = count % 10;
+            final long mod100 = count % 100;
+            if (mod10 == 1 && mod100 != 11) {
+                return ONE;
+            }
+            return mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14) ? FEW : MANY;
+        }, "be", "ru", "uk");
+        register(EnumSet.of(ONE, FEW, MANY), count -> {
+            if (count == 1) {
+                return ONE;
+            }
+            final long mod10 = count % 10;
+            final long mod100 = count % 100;
+            return mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14) ? FEW : MANY;
+        }, "pl", "szl");
+        register(EnumSet.of(ONE, FEW, OTHER), count -> {
+            if (count == 1) {
+                return ONE;
+            }
+            return count >= 2 && count <= 4 ? FEW : OTHER;
+        }, "cs", "sk");
+        register(EnumSet.of(ONE, FEW, OTHER), count -> {
+            final long mod10 = count % 10;
+            final long mod100 = count % 100;
+            if (mod10 == 1 && mod100 != 11) {
+                return ONE;
+            }
+            return mod10 >= 2 && mod10 <= 4 && (mod100 < 12 || mod100 > 14) ? FEW : OTHER;
+        }, "bs", "hr", "sr");
+        register(EnumSet.of(ONE, FEW, OTHER), count -> {
+            final long mod10 = count % 10;
+            final long mod100 = count % 100;
+            if (mod100 >= 11 && mod100 <= 19) {
+                return OTHER;
+            }
+            if (mod10 == 1) {
+                return ONE;
+            }
+            return mod10 >= 2 ? FEW : OTHER;
+        }, "lt");
+        register(EnumSet.of(ZERO, ONE, OTHER), count -> {
+            final long mod10 = count % 10;
+            final long mod100 = count % 100;
+            if (mod10 == 0 || mod100 >= 11 && mod100 <= 19) {
+                return ZERO;
+            }
+            return mod10 == 1 ? ONE : OTHER;
+        }, "lv");
+        register(EnumSet.of(ONE, FEW, OTHER), count -> {
+            if (count == 1) {
+                return ONE;
+            }
+            final long mod100 = count % 100;
+            return count == 0 || mod100 >= 1 && mod100 <= 19 ? FEW : OTHER;
+        }, "ro");
+        register(EnumSet.of(ONE, TWO, FEW, OTHER), count -> {
+            final long mod100 = count % 100;
+            if (mod100 == 1) {
+                return ONE;
+            }
+            if (mod100 == 2) {
+                return TWO;
+            }
+            return mod100 == 3 || mod100 == 4 ? FEW : OTHER;
+        }, "sl");
+        register(EnumSet.of(ZERO, ONE, TWO, FEW, MANY, OTHER), count -> {
+            if (count <= 2) {
+                return count == 0 ? ZERO : count == 1 ? ONE : TWO;
+            }
+            final long mod100 = count % 100;
+            if (mod100 >= 3 && mod100 <= 10) {
+                return FEW;
+            }
+            return mod100 >= 11 ? MANY : OTHER;
+        }, "ar");
+        register(EnumSet.of(ONE, TWO, OTHER), count -> count == 1 ? ONE : count == 2 ? TWO : OTHER,
+                "he", "se");
+        register(EnumSet.of(ONE, TWO, FEW, MANY, OTHER), count -> {
+            if (count == 1) {
+                return ONE;
+            }
+            if (count == 2) {
+                return TWO;
+            }
+            if (count >= 3 && count <= 6) {
+                return FEW;
+            }
+            return count >= 7 && count <= 10 ? MANY : OTHER;
+        }, "ga");
+        register(EnumSet.of(ZERO, ONE, TWO, FEW, MANY, OTHER), count -> switch ((int) Math.min(count, 7)) {
+            case 0 -> ZERO;
+            case 1 -> ONE;
+            case 2 -> TWO;
+            case 3 -> FEW;
+            case 6 -> MANY;
+            default -> OTHER;
+        }, "cy");
+        register(EnumSet.of(ONE, TWO, FEW, OTHER), count -> {
+            if (count == 1 || count == 11) {
+                return ONE;
+            }
+            if (count == 2 || count == 12) {
+                return TWO;
+            }
+            return count >= 3 && count <= 19 ? FEW : OTHER;
+        }, "gd");
+        register(EnumSet.of(ONE, TWO, FEW, OTHER), count -> {
+            if (count % 10 == 1) {
+                return ONE;
+            }
+            if (count % 10 == 2) {
+                return TWO;
+            }
+            return count % 20 == 0 ? FEW : OTHER;
+        }, "gv");
+        register(EnumSet.of(ONE, TWO, FEW, MANY, OTHER), count -> {
+            final long mod10 = count % 10;
+            final long mod100 = count % 100;
+            if (mod10 == 1 && mod100 != 11 && mod100 != 71 && mod100 != 91) {
+                return ONE;
+            }
+            if (mod10 == 2 && mod100 != 12 && mod100 != 72 && mod100 != 92) {
+                return TWO;
+            }
+            if ((mod10 == 3 || mod10 == 4 || mod10 == 9)
+                    && (mod100 < 10 || mod100 > 19) && (mod100 < 70 || mod100 > 79) && mod100 < 90) {
+                return FEW;
+            }
+            return count != 0 && count % 1_000_000 == 0 ? MANY : OTHER;
+        }, "br");
+        register(EnumSet.of(ONE, TWO, FEW, MANY, OTHER), count -> {
+            if (count == 1) {
+                return ONE;
+            }
+            if (count == 2) {
+                return TWO;
+            }
+            final long mod100 = count % 100;
+            if (count == 0 || mod100 >= 3 && mod100 <= 10) {
+                return FEW;
+            }
+            return mod100 >= 11 && mod100 <= 19 ? MANY : OTHER;
+        }, "mt");
+        register(EnumSet.of(ZERO, ONE, OTHER), count -> count == 0 ? ZERO : count == 1 ? ONE : OTHER,
+                "ksh");
+    }
+
+    private PluralRules() {
+    }
+
+    /**
+     * Gets the plural rule of a locale.
+     *
+     * <p>The rule ignores the sign of the count.</p>
+     *
+     * @param locale the locale
+     * @return the rule of the locale, or of its language
+     */
+    public static PluralRule of(final Locale locale) {
+        return entry(locale).rule();
+    }
+
+    /**
+     * Gets the plural categories an integer count can select in a locale.
+     *
+     * @param locale the locale
+     * @return an unmodifiable set of categories, always containing at least one category
+     */
+    public static Set<PluralCategory> categories(final Locale locale) {
+        return entry(locale).categories();
+    }
+
+    private static Entry entry(final Locale locale) {
+        final Entry entry = RULES.get(locale.toString());
+        if (entry != null) {
+            return entry;
+        }
+        return RULES.getOrDefault(locale.getLanguage(), DEFAULT);
+    }
+
+    private static void register(final Set<PluralCategory> categories, final PluralRule rule, final String... languages) {
+        // Operands are absolute values, as in the CLDR rules
+        final Entry entry = new Entry(Collections.unmodifiableSet(categories), count -> rule.select(Math.abs(count)));
+        for (final String language : languages) {
+            RULES.put(language, entry);
+        }
+    }
+
+    private record Entry(Set<PluralCategory> categories, PluralRule rule) {
+    }
+}
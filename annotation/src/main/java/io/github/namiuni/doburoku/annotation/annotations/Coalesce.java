@@ -0,0 +1,93 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Throttles repeats of the annotated message sent to the same audience.
+ *
+ * <p>The first message of a window is sent right away. Repeats within the window are dropped, or
+ * collapsed into one message sent when the window ends. In {@link Mode#COUNT} mode, every message sent
+ * carries an extra {@code count} argument after the method's own arguments, holding the number of
+ * messages it stands for.</p>
+ */
+@NullMarked
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+
+    /**
+     * The length of the window.
+     *
+     * @return the window length in {@link #unit()}
+     */
+    long window();
+
+    /**
+     * The unit of {@link #window()}.
+     *
+     * @return the time unit
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * What happens to repeats within the window.
+     *
+     * @return the coalescing mode
+     */
+    Mode mode() default Mode.DROP;
+
+    /**
+     * Whether only calls with equal arguments count as repeats. Otherwise any call of the method is a
+     * repeat, and collapsed messages show the arguments of the latest call.
+     *
+     * @return {@code true} to coalesce per argument tuple
+     */
+    boolean byArguments() default true;
+
+    /**
+     * Handling of repeated messages.
+     */
+    enum Mode {
+
+        /**
+         * Repeats within the window are not sent.
+         */
+        DROP,
+
+        /**
+         * Repeats within the window are sent as one message when the window ends, with their number as
+         * the {@code count} argument.
+         */
+        COUNT
+    }
+}
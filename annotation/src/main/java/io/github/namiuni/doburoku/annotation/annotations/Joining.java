@@ -0,0 +1,67 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Configures how a collection parameter is joined into a single translation argument.
+ *
+ * <p>At most {@link #limit()} elements are rendered; the remaining ones are summarized by a
+ * translatable {@link #more()} tail that receives the number of omitted elements as its only argument.</p>
+ */
+@NullMarked
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Joining {
+
+    /**
+     * The separator placed between two rendered elements.
+     *
+     * @return the separator text
+     */
+    String value() default ", ";
+
+    /**
+     * The maximum number of elements to render.
+     *
+     * @return the element limit, must be positive
+     */
+    int limit() default Integer.MAX_VALUE;
+
+    /**
+     * The translation key of the tail appended when elements were omitted.
+     *
+     * <p>The tail falls back to {@code "and %s more"} when the key has no translation.</p>
+     *
+     * @return the translation key of the tail
+     */
+    String more() default "doburoku.joining.more";
+}
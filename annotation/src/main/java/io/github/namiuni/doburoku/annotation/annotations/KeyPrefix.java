@@ -0,0 +1,58 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Prepends a namespace to the {@link Key} of every method of an interface.
+ *
+ * <p>On an interface, the prefix applies to its own methods and to the interfaces nested in it. On the accessor
+ * method of a nested child interface, the prefix applies to the methods of that child interface. Prefixes are
+ * joined with {@code '.'} from the outermost interface inwards, so {@code @KeyPrefix("myplugin")} on an interface
+ * whose accessor {@code @KeyPrefix("shop") Shop shop()} returns a child with {@code @Key("buy.success")}
+ * resolves to {@code myplugin.shop.buy.success}.</p>
+ *
+ * <p>A child interface has exactly one prefix. Keys are resolved per method of the child interface, not per
+ * accessor, so when several accessors return the same child interface they must declare the same prefix or
+ * none at all. Declare a separate child interface for each namespace instead.</p>
+ */
+@NullMarked
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface KeyPrefix {
+
+    /**
+     * The prefix, without a trailing {@code '.'}.
+     *
+     * @return the key prefix
+     */
+    String value();
+}
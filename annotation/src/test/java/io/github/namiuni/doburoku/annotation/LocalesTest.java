@@ -0,0 +1,92 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.annotation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LocalesTest {
+
+    @Test
+    @DisplayName("Verify that every constant resolves from its client locale string")
+    void testFromClientLocale() {
+        for (final Locales value : Locales.values()) {
+            final String name = value.getLocale().toString();
+            assertSame(value, Locales.fromClientLocale(name), name);
+            assertSame(value, Locales.fromClientLocale(name.toLowerCase(Locale.ROOT)), name);
+            assertSame(value, Locales.fromClientLocale(name.toUpperCase(Locale.ROOT)), name);
+            assertSame(value, Locales.fromClientLocale(name.replace('_', '-')), name);
+        }
+    }
+
+    @Test
+    @DisplayName("Verify that case and separator variants resolve to the same constant")
+    void testClientLocaleVariants() {
+        assertSame(Locales.EN_US, Locales.fromClientLocale("en_us"));
+        assertSame(Locales.EN_US, Locales.fromClientLocale("en_US"));
+        assertSame(Locales.EN_US, Locales.fromClientLocale("en-US"));
+        assertSame(Locales.EN_US, Locales.fromClientLocale(new StringBuilder("EN-us")));
+        assertSame(Locales.ZLM_ARAB, Locales.fromClientLocale("zlm_arab"));
+        assertSame(Locales.ROOT, Locales.fromClientLocale(""));
+    }
+
+    @Test
+    @DisplayName("Verify that unknown locale strings resolve to null")
+    void testUnknownClientLocale() {
+        assertNull(Locales.fromClientLocale("xx_xx"));
+        assertNull(Locales.fromClientLocale("en"));
+        assertNull(Locales.fromClientLocale("en_us_"));
+        assertNull(Locales.fromClientLocale("en us"));
+        assertNull(Locales.fromClientLocale("ja_jp_JP"));
+    }
+
+    @Test
+    @DisplayName("Verify that every constant resolves from its JDK locale")
+    void testFromLocale() {
+        for (final Locales value : Locales.values()) {
+            assertSame(value, Locales.fromLocale(value.getLocale()), value.name());
+        }
+        assertSame(Locales.JA_JP, Locales.fromLocale(Locale.of("ja", "JP")));
+        assertNull(Locales.fromLocale(Locale.JAPANESE));
+    }
+
+    @Test
+    @DisplayName("Verify that fallback chains go from the locale through its language to the root locale")
+    void testFallbackChain() {
+        assertEquals(List.of(Locale.US, Locale.ENGLISH, Locale.ROOT), Locales.EN_US.fallbackChain());
+        assertEquals(List.of(Locale.of("bar"), Locale.ROOT), Locales.BAR.fallbackChain());
+        assertEquals(List.of(Locale.ROOT), Locales.ROOT.fallbackChain());
+
+        for (final Locales value : Locales.values()) {
+            final List<Locale> chain = value.fallbackChain();
+            assertEquals(value.getLocale(), chain.get(0), value.name());
+            assertEquals(Locale.ROOT, chain.get(chain.size() - 1), value.name());
+        }
+    }
+}
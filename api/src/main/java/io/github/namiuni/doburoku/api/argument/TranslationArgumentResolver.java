@@ -43,4 +43,17 @@ public interface TranslationArgumentResolver {
      * @return an array of rendered argument components
      */
     ComponentLike[] resolve(InvocationContext context);
+
+    /**
+     * Checks ahead of the first invocation that the arguments of the given method can be rendered,
+     * warming any per-parameter caches on the way.
+     *
+     * <p>The argument values of the context are all {@code null}; only the method and its parameters
+     * are meaningful.</p>
+     *
+     * @param context a representative invocation of the method
+     * @throws RuntimeException if arguments of the method cannot be rendered
+     */
+    default void prepare(final InvocationContext context) {
+    }
 }
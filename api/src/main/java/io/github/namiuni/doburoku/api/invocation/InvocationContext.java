@@ -25,6 +25,7 @@ package io.github.namiuni.doburoku.api.invocation;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
@@ -57,6 +58,16 @@ public interface InvocationContext {
      */
     Argument<?>[] arguments();
 
+    /**
+     * The type the resolved result must have. Usually the generic return type of the method; for methods
+     * returning one result per element of a collection parameter, the element result type.
+     *
+     * @return the result type
+     */
+    default Type resultType() {
+        return this.method().getGenericReturnType();
+    }
+
     /**
      * Represents a single method argument alongside its reflective parameter metadata.
      *
@@ -77,5 +88,15 @@ public interface InvocationContext {
          * @return the argument value
          */
         @Nullable T value();
+
+        /**
+         * The declared type of the value. Usually the parameterized type of the parameter; for a single
+         * element of a collection parameter, the element type.
+         *
+         * @return the value type
+         */
+        default Type type() {
+            return this.parameter().getParameterizedType();
+        }
     }
 }
@@ -24,6 +24,7 @@
 package io.github.namiuni.doburoku.api.result;
 
 import io.github.namiuni.doburoku.api.invocation.InvocationContext;
+import java.lang.reflect.Type;
 import net.kyori.adventure.text.ComponentLike;
 import org.jspecify.annotations.NullMarked;
 
@@ -46,4 +47,31 @@ public interface TranslationResultResolver {
      * @return the resolved result
      */
     <R> R resolve(InvocationContext context, String key, ComponentLike[] arguments);
+
+    /**
+     * Whether this resolver produces results of the given type as a whole, for example through a
+     * transformer registered for it.
+     *
+     * <p>Methods returning such a type are never rendered one result per collection element.</p>
+     *
+     * @param resultType the generic return type of a method
+     * @return {@code true} if the resolver handles the type itself
+     */
+    default boolean resolves(final Type resultType) {
+        return false;
+    }
+
+    /**
+     * Checks ahead of the first invocation that results can be produced for the given method, warming
+     * any per-method caches on the way.
+     *
+     * <p>The argument values of the context are all {@code null}; only the method, its parameters, and the
+     * result type are meaningful.</p>
+     *
+     * @param context a representative invocation of the method
+     * @param key     the translation key of the method
+     * @throws RuntimeException if results of the method cannot be produced
+     */
+    default void prepare(final InvocationContext context, final String key) {
+    }
 }
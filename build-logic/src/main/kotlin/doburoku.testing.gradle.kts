@@ -3,10 +3,25 @@ plugins {
 }
 
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
     jvmArgs("-Xshare:off")
 }
 
+val benchmark by tasks.registering(Test::class) {
+    description = "Runs the benchmark suites tagged with 'benchmark'."
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    jvmArgs("-Xshare:off", "-Xmx4G")
+    testLogging.showStandardStreams = true
+    shouldRunAfter(tasks.test)
+}
+
 dependencies {
     testImplementation(libs.bundles.testing)
     testRuntimeOnly(libs.junit.platform)
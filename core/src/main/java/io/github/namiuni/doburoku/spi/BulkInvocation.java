@@ -0,0 +1,207 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.spi;
+
+import io.github.namiuni.doburoku.internal.invocation.DoburokuInvocationHandler;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Renders many invocations of one service method at once, for leaderboards, list commands and
+ * paginated menus.
+ *
+ * <p>The call is given as a lambda applying one element to the service, such as
+ * {@code (messages, entry) -> messages.rank(entry.name(), entry.score())}. It is applied to a recording
+ * stand-in of the service to capture the method and the arguments of each element; the translation
+ * pipeline then runs for all of them with the key and parameters resolved once. The key resolver must
+ * therefore not depend on argument values, which holds for the standard resolvers.</p>
+ *
+ * <p>The call may reach the method through child interface accessors, as in
+ * {@code (messages, entry) -> messages.ranking().rank(entry.name(), entry.score())}; the stand-in records
+ * the accessors and the results are rendered by the matching child service.</p>
+ */
+@NullMarked
+public final class BulkInvocation {
+
+    private BulkInvocation() {
+    }
+
+    /**
+     * Invokes a service method once per element.
+     *
+     * @param <I>      the service interface type
+     * @param <T>      the element type
+     * @param <R>      the result type
+     * @param service  the service proxy
+     * @param call     applies an element to the service, calling exactly one translation method
+     * @param elements the elements
+     * @return the results, in the order of {@code elements}
+     * @throws IllegalArgumentException if the service is not a Doburoku proxy or the call does not invoke the
+     *                                  same translation method for every element
+     */
+    public static <I, T, R> List<R> invokeAll(final I service, final BiFunction<? super I, ? super T, R> call, final Iterable<? extends T> elements) {
+        return invokeAll(service, call, elements, false);
+    }
+
+    /**
+     * Invokes a service method once per element, rendering the invocations in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}. Worth it for very large inputs, given thread-safe
+     * resolvers and result types.
+     *
+     * @param <I>      the service interface type
+     * @param <T>      the element type
+     * @param <R>      the result type
+     * @param service  the service proxy
+     * @param call     applies an element to the service, calling exactly one translation method
+     * @param elements the elements
+     * @return the results, in the order of {@code elements}
+     * @throws IllegalArgumentException if the service is not a Doburoku proxy or the call does not invoke the
+     *                                  same translation method for every element
+     */
+    public static <I, T, R> List<R> invokeAllParallel(final I service, final BiFunction<? super I, ? super T, R> call, final Iterable<? extends T> elements) {
+        return invokeAll(service, call, elements, true);
+    }
+
+    /**
+     * Invokes a service method once per argument tuple.
+     *
+     * @param <R>      the result type
+     * @param service  the service proxy
+     * @param method   the translation method
+     * @param tuples   the arguments of each invocation
+     * @param parallel whether to render the invocations in parallel
+     * @return the results, in the order of {@code tuples}
+     * @throws IllegalArgumentException if the service is not a Doburoku proxy, the method is not a translation method
+     *                                  or a tuple does not match its parameters
+     */
+    public static <R> List<R> invokeAll(
+            final Object service,
+            final Method method,
+            final List<@Nullable Object[]> tuples,
+            final boolean parallel
+    ) {
+        return handler(service).invokeAll(service, method, tuples, parallel);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I, T, R> List<R> invokeAll(
+            final I service,
+            final BiFunction<? super I, ? super T, R> call,
+            final Iterable<? extends T> elements,
+            final boolean parallel
+    ) {
+        final DoburokuInvocationHandler handler = handler(service);
+        final Recorder recorder = new Recorder();
+        final I stand = (I) Proxy.newProxyInstance(
+                service.getClass().getClassLoader(),
+                service.getClass().getInterfaces(),
+                recorder);
+
+        final List<@Nullable Object[]> tuples = new ArrayList<>();
+        for (final T element : elements) {
+            call.apply(stand, element);
+            tuples.add(recorder.take());
+        }
+        if (tuples.isEmpty()) {
+            return List.of();
+        }
+
+        Object target = service;
+        DoburokuInvocationHandler targetHandler = handler;
+        for (final Method accessor : recorder.path) {
+            target = Objects.requireNonNull(targetHandler.prepare(target, accessor));
+            targetHandler = handler(target);
+        }
+        return targetHandler.invokeAll(target, Objects.requireNonNull(recorder.method), tuples, parallel);
+    }
+
+    private static DoburokuInvocationHandler handler(final Object service) {
+        if (Proxy.isProxyClass(service.getClass())
+                && Proxy.getInvocationHandler(service) instanceof final DoburokuInvocationHandler handler) {
+            return handler;
+        }
+        throw new IllegalArgumentException("Not a Doburoku service: " + service.getClass().getName());
+    }
+
+    /**
+     * Captures the child accessors, the method and the arguments of the calls made on the stand-in service.
+     */
+    private static final class Recorder implements InvocationHandler {
+
+        private static final @Nullable Object[] NO_ARGUMENTS = new Object[0];
+
+        private final Map<Method, Object> children = new HashMap<>();
+        private final List<Method> path = new ArrayList<>();
+        private final List<Method> current = new ArrayList<>();
+        private @Nullable Method method;
+        private @Nullable Object @Nullable [] arguments;
+
+        @Override
+        public @Nullable Object invoke(final Object proxy, final Method invoked, final @Nullable Object @Nullable [] args) {
+            if (this.arguments != null) {
+                throw new IllegalArgumentException("Bulk calls must invoke exactly one translation method");
+            }
+            if (isChildInterface(invoked)) {
+                this.current.add(invoked);
+                return this.children.computeIfAbsent(invoked, accessor -> Proxy.newProxyInstance(
+                        accessor.getReturnType().getClassLoader(),
+                        new Class<?>[]{accessor.getReturnType()},
+                        this));
+            }
+            if (this.method == null) {
+                this.path.addAll(this.current);
+            } else if (!this.method.equals(invoked) || !this.path.equals(this.current)) {
+                throw new IllegalArgumentException("Bulk calls must always invoke the same method, got %s and %s".formatted(this.method, invoked));
+            }
+            this.method = invoked;
+            this.arguments = args == null ? NO_ARGUMENTS : args;
+            return null;
+        }
+
+        private static boolean isChildInterface(final Method method) {
+            return method.getParameterCount() == 0
+                    && method.getReturnType().isInterface()
+                    && method.getDeclaringClass() == method.getReturnType().getDeclaringClass();
+        }
+
+        private @Nullable Object[] take() {
+            final @Nullable Object[] taken = this.arguments;
+            if (taken == null) {
+                throw new IllegalArgumentException("Bulk calls must invoke exactly one translation method");
+            }
+            this.arguments = null;
+            this.current.clear();
+            return taken;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A concurrent cache of values computed per method, parameter or other member of a class.
+ *
+ * <p>Entries are grouped by the class that owns them and held through a {@link ClassValue}, so they are
+ * released together with that class and never pin a discarded class loader.</p>
+ *
+ * <p>This type is internal and may change without notice.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@NullMarked
+public final class ClassScopedCache<K, V> {
+
+    private final ClassValue<Map<K, V>> entries = new ClassValue<>() {
+        @Override
+        protected Map<K, V> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns the value cached for the given key, computing it on first access.
+     *
+     * @param owner    the class the key belongs to, usually its declaring class
+     * @param key      the key
+     * @param function the function computing the value of an absent key
+     * @return the cached value
+     */
+    public V get(final Class<?> owner, final K key, final Function<? super K, ? extends V> function) {
+        return this.entries.get(owner).computeIfAbsent(key, function);
+    }
+}
@@ -24,11 +24,24 @@
 package io.github.namiuni.doburoku.internal;
 
 import io.github.namiuni.doburoku.api.argument.TranslationArgumentResolver;
+import io.github.namiuni.doburoku.api.invocation.InvocationContext;
 import io.github.namiuni.doburoku.api.key.TranslationKeyResolver;
 import io.github.namiuni.doburoku.api.result.TranslationResultResolver;
 import io.github.namiuni.doburoku.internal.invocation.DoburokuMethod;
+import io.github.namiuni.doburoku.internal.invocation.ElementInvocation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import net.kyori.adventure.text.ComponentLike;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Coordinates key, argument, and result resolution to produce a translation result.
@@ -40,6 +53,7 @@ public final class DoburokuDrunkard {
     private final TranslationKeyResolver keyResolver;
     private final TranslationArgumentResolver argumentResolver;
     private final TranslationResultResolver resultResolver;
+    private final ClassScopedCache<Method, ElementPlan> elementPlans = new ClassScopedCache<>();
 
     /**
      * Creates a new drunkard.
@@ -58,6 +72,26 @@ public final class DoburokuDrunkard {
         this.resultResolver = resultResolver;
     }
 
+    /**
+     * Eagerly resolves everything for the given invocation that does not depend on argument values,
+     * warming resolver caches and surfacing configuration errors before the first real call.
+     *
+     * <p>Besides the key, the argument and result resolvers {@linkplain TranslationResultResolver#prepare check}
+     * the method, so an unsupported return type fails here instead of on the first call. Methods rendered
+     * one result per collection element are checked against the result type of a single element.</p>
+     *
+     * @param doburokuMethod a representative invocation of the method to prepare
+     */
+    public void prepare(final DoburokuMethod doburokuMethod) {
+        final String key = this.keyResolver.resolve(doburokuMethod);
+        final ElementPlan plan = this.plan(doburokuMethod.method());
+        final InvocationContext context = plan == ElementPlan.NONE
+                ? doburokuMethod
+                : ElementInvocation.of(doburokuMethod, plan.index(), null, plan.elementType(), plan.resultType());
+        this.argumentResolver.prepare(context);
+        this.resultResolver.prepare(context, key);
+    }
+
     /**
      * Runs the translation pipeline for a captured invocation.
      *
@@ -67,7 +101,97 @@ public final class DoburokuDrunkard {
      */
     public <R> R drunk(final DoburokuMethod doburokuMethod) {
         final String key = this.keyResolver.resolve(doburokuMethod);
-        final ComponentLike[] translationArguments = this.argumentResolver.resolve(doburokuMethod);
-        return this.resultResolver.resolve(doburokuMethod, key, translationArguments);
+        return this.drunk(doburokuMethod, key, this.plan(doburokuMethod.method()));
+    }
+
+    /**
+     * Runs the translation pipeline for many invocations of the same method.
+     *
+     * <p>The parameters, the key, and the element plan are looked up once, from the first invocation, so the
+     * key resolver must not depend on argument values. In parallel mode the invocations are rendered on the common
+     * {@link java.util.concurrent.ForkJoinPool}, which requires thread-safe resolvers.</p>
+     *
+     * @param <R>      the result type produced by the resolver
+     * @param proxy    the proxy the method is invoked on
+     * @param method   the translation method
+     * @param tuples   the arguments of each invocation
+     * @param parallel whether to render the invocations in parallel
+     * @return the translated results, in the order of {@code tuples}
+     * @throws IllegalArgumentException if a tuple does not match the method's parameters
+     */
+    public <R> List<R> drunkAll(
+            final Object proxy,
+            final Method method,
+            final List<@Nullable Object[]> tuples,
+            final boolean parallel
+    ) {
+        if (tuples.isEmpty()) {
+            return List.of();
+        }
+
+        final Parameter[] parameters = method.getParameters();
+        for (final @Nullable Object[] tuple : tuples) {
+            if (tuple.length != parameters.length) {
+                throw new IllegalArgumentException("Expected %d arguments for %s but got %d".formatted(parameters.length, method, tuple.length));
+            }
+        }
+
+        final String key = this.keyResolver.resolve(DoburokuMethod.of(proxy, method, parameters, tuples.getFirst()));
+        final ElementPlan plan = this.plan(method);
+        if (parallel) {
+            return IntStream.range(0, tuples.size())
+                    .parallel()
+                    .mapToObj(index -> this.<R>drunk(DoburokuMethod.of(proxy, method, parameters, tuples.get(index)), key, plan))
+                    .toList();
+        }
+
+        final List<R> results = new ArrayList<>(tuples.size());
+        for (final @Nullable Object[] tuple : tuples) {
+            results.add(this.drunk(DoburokuMethod.of(proxy, method, parameters, tuple), key, plan));
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R drunk(final DoburokuMethod doburokuMethod, final String key, final ElementPlan plan) {
+        if (plan != ElementPlan.NONE) {
+            return (R) this.elements(doburokuMethod, key, plan);
+        }
+        return this.resolve(doburokuMethod, key);
+    }
+
+    private ElementPlan plan(final Method method) {
+        return this.elementPlans.get(method.getDeclaringClass(), method, it -> ElementPlan.of(it, this.resultResolver));
+    }
+
+    private <R> R resolve(final InvocationContext context, final String key) {
+        final ComponentLike[] translationArguments = this.argumentResolver.resolve(context);
+        return this.resultResolver.resolve(context, key, translationArguments);
+    }
+
+    private Object elements(final DoburokuMethod doburokuMethod, final String key, final ElementPlan plan) {
+        final Iterable<?> source = (Iterable<?>) doburokuMethod.arguments()[plan.index()].value();
+        final Function<@Nullable Object, Object> render = element ->
+                this.resolve(ElementInvocation.of(doburokuMethod, plan.index(), element, plan.elementType(), plan.resultType()), key);
+
+        if (plan.stream()) {
+            return source == null ? Stream.empty() : StreamSupport.stream(source.spliterator(), false).map(render);
+        }
+
+        // Rendered on every iteration, one element at a time
+        return (Iterable<Object>) () -> {
+            final Iterator<?> elements = source == null ? Collections.emptyIterator() : source.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return elements.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return render.apply(elements.next());
+                }
+            };
+        };
     }
 }
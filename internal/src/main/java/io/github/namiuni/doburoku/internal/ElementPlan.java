@@ -0,0 +1,86 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.internal;
+
+import io.github.namiuni.doburoku.api.result.TranslationResultResolver;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Collection;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Describes how a method returning one result per element of a collection parameter is rendered.
+ *
+ * <p>Applies to methods returning {@code Stream<R>} or {@code Iterable<R>} that take a {@link Collection}
+ * parameter; the first such parameter supplies the elements. Other {@link Iterable} parameters, such as
+ * {@link java.nio.file.Path}, are ordinary arguments. Return types the result resolver
+ * {@linkplain TranslationResultResolver#resolves(Type) handles itself} are rendered as a whole.</p>
+ *
+ * @param index       the index of the collection parameter, or {@code -1} if the method is rendered as a whole
+ * @param stream      whether the method returns a {@link Stream}
+ * @param elementType the element type of the collection parameter
+ * @param resultType  the result type of a single element
+ */
+@NullMarked
+record ElementPlan(int index, boolean stream, Type elementType, Type resultType) {
+
+    static final ElementPlan NONE = new ElementPlan(-1, false, Object.class, Object.class);
+
+    static ElementPlan of(final Method method, final TranslationResultResolver resultResolver) {
+        final Class<?> returnType = method.getReturnType();
+        if ((returnType != Stream.class && returnType != Iterable.class)
+                || !(method.getGenericReturnType() instanceof final ParameterizedType resultType)
+                || resultResolver.resolves(resultType)) {
+            return NONE;
+        }
+
+        final Class<?>[] parameterTypes = method.getParameterTypes();
+        final Type[] genericParameterTypes = method.getGenericParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (Collection.class.isAssignableFrom(parameterTypes[i])) {
+                return new ElementPlan(i, returnType == Stream.class, elementType(genericParameterTypes[i]), typeArgument(resultType));
+            }
+        }
+        return NONE;
+    }
+
+    private static Type elementType(final Type collectionType) {
+        // Collections with a single type parameter, such as List<T>, Set<T> and Collection<T>
+        if (collectionType instanceof final ParameterizedType parameterized && parameterized.getActualTypeArguments().length == 1) {
+            return typeArgument(parameterized);
+        }
+        return Object.class;
+    }
+
+    private static Type typeArgument(final ParameterizedType type) {
+        final Type argument = type.getActualTypeArguments()[0];
+        if (argument instanceof final WildcardType wildcard) {
+            return wildcard.getUpperBounds()[0];
+        }
+        return argument;
+    }
+}
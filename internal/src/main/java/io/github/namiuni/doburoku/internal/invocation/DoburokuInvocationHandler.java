@@ -23,21 +23,24 @@
  */
 package io.github.namiuni.doburoku.internal.invocation;
 
+import io.github.namiuni.doburoku.internal.ClassScopedCache;
 import io.github.namiuni.doburoku.internal.DoburokuDrunkard;
 import io.github.namiuni.doburoku.internal.DoburokuProxyFactory;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.Map;
+import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Invocation handler for proxies created by Doburoku.
  *
- * <p>Handles default interface methods, Object methods, child interfaces, and translation invocations.</p>
+ * <p>Handles default interface methods, Object methods, child interfaces, and translation invocations.
+ * Child proxies are cached on the declaring interface through a {@link ClassValue}, so a discarded
+ * class loader is never pinned by this handler.</p>
  *
  * <p>This type is internal and may change without notice.</p>
  */
@@ -48,7 +51,7 @@ public final class DoburokuInvocationHandler implements InvocationHandler {
     private final DoburokuDrunkard doburokuDrunkard;
     private final DoburokuProxyFactory doburokuFactory;
 
-    private final Map<Method, Object> childCache = new ConcurrentHashMap<>();
+    private final ClassScopedCache<Method, Object> childCache = new ClassScopedCache<>();
 
     /**
      * Creates a new invocation handler.
@@ -80,14 +83,70 @@ public final class DoburokuInvocationHandler implements InvocationHandler {
         }
 
         if (this.isChildInterface(method)) {
-            return this.childCache.computeIfAbsent(method, m ->
-                    this.doburokuFactory.create(m.getReturnType()));
+            return this.child(method);
         }
 
         final @Nullable Object[] arguments = Objects.requireNonNullElse(args, EMPTY_ARGUMENTS);
         return this.doburokuDrunkard.drunk(DoburokuMethod.of(proxy, method, arguments));
     }
 
+    /**
+     * Prepares the given method ahead of its first invocation.
+     *
+     * <p>Translation methods are resolved as far as possible without argument values. Object methods,
+     * default methods, and static methods are ignored. Child interface accessors are not descended into; their child
+     * proxy is returned so the caller can prepare it in turn.</p>
+     *
+     * @param proxy  the proxy the method belongs to
+     * @param method the method to prepare
+     * @return the child proxy if the method is a child interface accessor, otherwise {@code null}
+     */
+    public @Nullable Object prepare(final Object proxy, final Method method) {
+        if (method.getDeclaringClass() == Object.class || method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+
+        if (this.isChildInterface(method)) {
+            return this.child(method);
+        }
+
+        final @Nullable Object[] arguments = new Object[method.getParameterCount()];
+        this.doburokuDrunkard.prepare(DoburokuMethod.of(proxy, method, arguments));
+        return null;
+    }
+
+    /**
+     * Invokes a translation method once per argument tuple, resolving the key and the parameters once.
+     *
+     * @param <R>      the result type
+     * @param proxy    the proxy the method belongs to
+     * @param method   the translation method
+     * @param tuples   the arguments of each invocation
+     * @param parallel whether to render the invocations in parallel
+     * @return the results, in the order of {@code tuples}
+     * @throws IllegalArgumentException if the method is not a translation method or a tuple does not match its parameters
+     * @see DoburokuDrunkard#drunkAll(Object, Method, List, boolean)
+     */
+    public <R> List<R> invokeAll(
+            final Object proxy,
+            final Method method,
+            final List<@Nullable Object[]> tuples,
+            final boolean parallel
+    ) {
+        if (method.getDeclaringClass() == Object.class
+                || method.isDefault()
+                || Modifier.isStatic(method.getModifiers())
+                || this.isChildInterface(method)) {
+            throw new IllegalArgumentException("Not a translation method: " + method);
+        }
+        return this.doburokuDrunkard.drunkAll(proxy, method, tuples, parallel);
+    }
+
+    private Object child(final Method method) {
+        return this.childCache.get(method.getDeclaringClass(), method, m ->
+                this.doburokuFactory.create(m.getReturnType()));
+    }
+
     private boolean isChildInterface(final Method method) {
         return method.getDeclaringClass() == method.getReturnType().getDeclaringClass();
     }
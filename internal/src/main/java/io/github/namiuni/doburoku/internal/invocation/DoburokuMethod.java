@@ -71,7 +71,26 @@ public record DoburokuMethod(Object proxy, Method method, Argument<?>[] argument
      */
     @ApiStatus.Internal
     public static DoburokuMethod of(final Object proxy, final Method method, final @Nullable Object[] args) {
-        final Parameter[] parameters = method.getParameters();
+        return of(proxy, method, method.getParameters(), args);
+    }
+
+    /**
+     * Creates a {@link DoburokuMethod} from parameters looked up beforehand, sparing the copy made by every
+     * call of {@link Method#getParameters()}.
+     *
+     * @param proxy      the proxy instance on which the invocation occurs
+     * @param method     the reflected method being invoked
+     * @param parameters the parameters of {@code method}
+     * @param args       the raw argument values corresponding to the method parameters; values may be {@code null}
+     * @return a new {@code DoburokuMethod} encapsulating the invocation data
+     */
+    @ApiStatus.Internal
+    public static DoburokuMethod of(
+            final Object proxy,
+            final Method method,
+            final Parameter[] parameters,
+            final @Nullable Object[] args
+    ) {
         final Argument<?>[] doburokuArguments = new Argument<?>[parameters.length];
         for (int i = 0; i < parameters.length; i++) {
             doburokuArguments[i] = new Argument<>(parameters[i], args[i]);
@@ -0,0 +1,90 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.internal.invocation;
+
+import io.github.namiuni.doburoku.api.invocation.InvocationContext;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Represents the invocation of a method for a single element of one of its collection parameters.
+ *
+ * <p>The collection argument is replaced by the element, typed with the element type, and the result
+ * type is the type of a single element's result.</p>
+ *
+ * <p>This type is internal and may change without notice.</p>
+ *
+ * @param proxy      the proxy instance on which the method was invoked
+ * @param method     the reflected method being invoked
+ * @param arguments  the arguments of the invocation, with the element in place of the collection
+ * @param resultType the result type of a single element
+ */
+@NullMarked
+@ApiStatus.Internal
+public record ElementInvocation(
+        Object proxy,
+        Method method,
+        InvocationContext.Argument<?>[] arguments,
+        Type resultType
+) implements InvocationContext {
+
+    /**
+     * Represents a single element of a collection argument.
+     *
+     * @param <T>       the compile-time type of the element
+     * @param parameter the collection parameter the element belongs to
+     * @param value     the element; may be {@code null}
+     * @param type      the element type
+     */
+    @ApiStatus.Internal
+    public record Argument<T>(Parameter parameter, @Nullable T value, Type type) implements InvocationContext.Argument<T> {
+    }
+
+    /**
+     * Creates the invocation for one element of a collection argument.
+     *
+     * @param invocation  the invocation of the method with the whole collection
+     * @param index       the index of the collection parameter
+     * @param element     the element
+     * @param elementType the element type
+     * @param resultType  the result type of a single element
+     * @return the element invocation
+     */
+    @ApiStatus.Internal
+    public static ElementInvocation of(
+            final InvocationContext invocation,
+            final int index,
+            final @Nullable Object element,
+            final Type elementType,
+            final Type resultType
+    ) {
+        final InvocationContext.Argument<?>[] arguments = invocation.arguments().clone();
+        arguments[index] = new Argument<>(arguments[index].parameter(), element, elementType);
+        return new ElementInvocation(invocation.proxy(), invocation.method(), arguments, resultType);
+    }
+}
@@ -10,4 +10,12 @@ version = projectVersion
 dependencies {
     api(projects.doburokuCore)
     compileOnlyApi(libs.adventure.text.minimessage)
+    compileOnlyApi(libs.adventure.text.serializer.gson)
+    compileOnlyApi(libs.adventure.text.serializer.legacy)
+    compileOnlyApi(libs.adventure.text.serializer.plain)
+
+    testImplementation(libs.adventure.text.minimessage)
+    testImplementation(libs.adventure.text.serializer.gson)
+    testImplementation(libs.adventure.text.serializer.legacy)
+    testImplementation(libs.adventure.text.serializer.plain)
 }
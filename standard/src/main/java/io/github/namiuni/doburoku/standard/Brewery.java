@@ -0,0 +1,307 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import io.github.namiuni.doburoku.api.argument.TranslationArgumentResolver;
+import io.github.namiuni.doburoku.api.key.TranslationKeyResolver;
+import io.github.namiuni.doburoku.api.result.TranslationResultResolver;
+import io.github.namiuni.doburoku.internal.DoburokuDrunkard;
+import io.github.namiuni.doburoku.internal.DoburokuProxyFactory;
+import io.github.namiuni.doburoku.internal.invocation.DoburokuInvocationHandler;
+import io.github.namiuni.doburoku.standard.argument.TranslationArgumentRegistry;
+import io.github.namiuni.doburoku.standard.argument.TranslationArgumentTransformer;
+import io.github.namiuni.doburoku.standard.key.AnnotationKeyResolver;
+import io.github.namiuni.doburoku.standard.result.TranslationResultResolverRegistry;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Long-lived container that brews service interfaces against one shared configuration.
+ *
+ * <p>All proxies brewed by the same brewery share their key, argument, and result resolvers, so
+ * reflective metadata is computed once per interface no matter how many modules brew it. Proxies
+ * are cached per service interface via a {@link ClassValue}: brewing the same interface twice returns
+ * the same proxy, and the cache never keeps a discarded class loader reachable.
+ * This class is thread-safe; {@link #brewAll(Collection)} brews many interfaces in parallel.</p>
+ */
+@NullMarked
+public final class Brewery {
+
+    private static final Comparator<Method> METHOD_ORDER = Comparator.comparing(Method::toString);
+
+    private final DoburokuProxyFactory proxyFactory;
+    private final ClassValue<Object> proxies = new ClassValue<>() {
+        @Override
+        protected Object computeValue(final Class<?> type) {
+            return Brewery.this.proxyFactory.create(type);
+        }
+    };
+
+    private Brewery(final DoburokuDrunkard drunkard) {
+        this.proxyFactory = DoburokuProxyFactory.of(drunkard);
+    }
+
+    /**
+     * Creates a brewery using the standard defaults.
+     *
+     * @return a new brewery
+     */
+    public static Brewery create() {
+        return builder().build();
+    }
+
+    /**
+     * Starts a builder for a brewery.
+     *
+     * @return a new builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the proxy for the given service interface, brewing it on first use.
+     *
+     * @param <I>              the service interface type
+     * @param serviceInterface the interface class to proxy
+     * @return the shared proxy implementing the service interface
+     * @throws IllegalArgumentException if the given class is not an interface
+     */
+    public <I> I brew(final Class<I> serviceInterface) throws IllegalArgumentException {
+        Objects.requireNonNull(serviceInterface, "serviceInterface must not be null");
+        if (!serviceInterface.isInterface()) {
+            throw new IllegalArgumentException("serviceInterface must be an interface: " + serviceInterface.getName());
+        }
+        return serviceInterface.cast(this.proxies.get(serviceInterface));
+    }
+
+    /**
+     * Brews and validates many service interfaces in parallel on virtual threads.
+     *
+     * @param serviceInterfaces the interfaces to brew
+     * @return a deterministic report of the validated proxies and all failures
+     * @see #brewAll(Collection, Executor)
+     */
+    public BrewingReport brewAll(final Collection<? extends Class<?>> serviceInterfaces) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return this.brewAll(serviceInterfaces, executor);
+        }
+    }
+
+    /**
+     * Brews and validates many service interfaces in parallel on the given executor.
+     *
+     * <p>Validation prepares every translation method of each interface and of its child interfaces,
+     * so key lookups and other reflective metadata are already cached when the proxies are first used.
+     * Besides the key, it checks that the result resolver supports the return type and that annotations
+     * such as {@code @Lines}, {@code @Joining}, and {@code @Coalesce} are well-formed, so a method that
+     * would throw on its first call is reported as a failure instead.
+     * Failures never abort the batch; exceptions and linkage errors, such as a missing class referenced
+     * by a method signature, are collected into the returned report instead. Other errors propagate.</p>
+     *
+     * @param serviceInterfaces the interfaces to brew
+     * @param executor          the executor running one task per service interface
+     * @return a deterministic report of the validated proxies and all failures
+     */
+    public BrewingReport brewAll(final Collection<? extends Class<?>> serviceInterfaces, final Executor executor) {
+        Objects.requireNonNull(serviceInterfaces, "serviceInterfaces must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+
+        final Map<Class<?>, CompletableFuture<List<BrewingReport.Failure>>> tasks = new LinkedHashMap<>();
+        for (final Class<?> serviceInterface : new LinkedHashSet<>(serviceInterfaces)) {
+            tasks.put(serviceInterface, CompletableFuture.supplyAsync(() -> this.brewAndValidate(serviceInterface), executor));
+        }
+
+        final Map<Class<?>, Object> proxies = new LinkedHashMap<>();
+        final List<BrewingReport.Failure> failures = new ArrayList<>();
+        for (final Map.Entry<Class<?>, CompletableFuture<List<BrewingReport.Failure>>> task : tasks.entrySet()) {
+            final List<BrewingReport.Failure> taskFailures = task.getValue().join();
+            if (taskFailures.isEmpty()) {
+                proxies.put(task.getKey(), this.proxies.get(task.getKey()));
+            } else {
+                failures.addAll(taskFailures);
+            }
+        }
+
+        return new BrewingReport(proxies, failures);
+    }
+
+    private List<BrewingReport.Failure> brewAndValidate(final Class<?> serviceInterface) {
+        final Object proxy;
+        try {
+            proxy = this.brew(serviceInterface);
+        } catch (final Exception | LinkageError exception) {
+            return List.of(new BrewingReport.Failure(serviceInterface, null, exception));
+        }
+
+        final List<BrewingReport.Failure> failures = new ArrayList<>();
+        this.validate(serviceInterface, serviceInterface, proxy, failures);
+        return failures;
+    }
+
+    private void validate(
+            final Class<?> serviceInterface,
+            final Class<?> type,
+            final Object proxy,
+            final List<BrewingReport.Failure> failures
+    ) {
+        final DoburokuInvocationHandler handler = (DoburokuInvocationHandler) Proxy.getInvocationHandler(proxy);
+        final Method[] methods = type.getMethods();
+        Arrays.sort(methods, METHOD_ORDER);
+
+        for (final Method method : methods) {
+            try {
+                final @Nullable Object child = handler.prepare(proxy, method);
+                if (child != null) {
+                    this.validate(serviceInterface, method.getReturnType(), child, failures);
+                }
+            } catch (final Exception | LinkageError exception) {
+                failures.add(new BrewingReport.Failure(serviceInterface, method, exception));
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link Brewery}.
+     *
+     * <p>Unset options fall back to the same defaults as {@link DoburokuStandard}.</p>
+     */
+    public static final class Builder {
+
+        private @Nullable TranslationKeyResolver keyResolver;
+        private @Nullable TranslationArgumentResolver argumentResolver;
+        private @Nullable TranslationResultResolver resultResolver;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the resolver used to determine translation keys for method invocations.
+         *
+         * @param keyResolver the key resolver implementation
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder key(final TranslationKeyResolver keyResolver) {
+            this.keyResolver = Objects.requireNonNull(keyResolver, "keyResolver");
+            return this;
+        }
+
+        /**
+         * Sets the resolver that renders method arguments into translation components.
+         *
+         * @param argumentResolver the argument resolver implementation
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder argument(final TranslationArgumentResolver argumentResolver) {
+            this.argumentResolver = Objects.requireNonNull(argumentResolver, "argumentResolver");
+            return this;
+        }
+
+        /**
+         * Configures an {@link TranslationArgumentRegistry} using a consumer function.
+         *
+         * @param configurator a consumer that configures the registry
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder argument(final Consumer<TranslationArgumentRegistry> configurator) {
+            final TranslationArgumentRegistry registry = new TranslationArgumentRegistry();
+            configurator.accept(registry);
+            return this.argument(registry);
+        }
+
+        /**
+         * Configures an {@link TranslationArgumentRegistry} with a transformer and additional configuration.
+         *
+         * @param configurator a consumer that configures the registry
+         * @param transformer  the argument transformer to apply to all rendered components
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder argument(
+                final Consumer<TranslationArgumentRegistry> configurator,
+                final TranslationArgumentTransformer transformer
+        ) {
+            final TranslationArgumentRegistry registry = new TranslationArgumentRegistry();
+            configurator.accept(registry);
+            return this.argument(registry.transformedBy(transformer));
+        }
+
+        /**
+         * Sets the resolver that produces the final translation result.
+         *
+         * @param resultResolver the result resolver implementation
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder result(final TranslationResultResolver resultResolver) {
+            this.resultResolver = Objects.requireNonNull(resultResolver, "resultResolver");
+            return this;
+        }
+
+        /**
+         * Configures a {@link TranslationResultResolverRegistry} using a consumer function.
+         *
+         * @param configurator a consumer that configures the registry
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder result(final Consumer<TranslationResultResolverRegistry> configurator) {
+            final TranslationResultResolverRegistry registry = new TranslationResultResolverRegistry();
+            configurator.accept(registry);
+            return this.result(registry);
+        }
+
+        /**
+         * Builds the brewery.
+         *
+         * @return a new brewery sharing the configured resolvers across all proxies
+         */
+        public Brewery build() {
+            final TranslationKeyResolver key = Objects.requireNonNullElseGet(this.keyResolver, AnnotationKeyResolver::new);
+            final TranslationArgumentResolver argument = Objects.requireNonNullElseGet(this.argumentResolver, TranslationArgumentRegistry::new);
+            final TranslationResultResolver result = Objects.requireNonNullElseGet(this.resultResolver, TranslationResultResolverRegistry::new);
+            return new Brewery(new DoburokuDrunkard(key, argument, result));
+        }
+    }
+}
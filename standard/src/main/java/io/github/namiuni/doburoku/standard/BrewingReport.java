@@ -0,0 +1,90 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of brewing and validating many service interfaces at once.
+ *
+ * <p>Both the proxies and the failures are ordered by the order in which the service interfaces
+ * were passed in, and failures of one interface are ordered by method signature, so the report is
+ * deterministic regardless of how the work was scheduled. Interfaces that failed validation have no
+ * proxy in {@link #proxies()}.</p>
+ *
+ * @param proxies  the validated proxies, keyed by service interface
+ * @param failures the validation failures
+ */
+@NullMarked
+public record BrewingReport(Map<Class<?>, Object> proxies, List<Failure> failures) {
+
+    /**
+     * Creates a new report.
+     *
+     * @param proxies  the validated proxies, keyed by service interface
+     * @param failures the validation failures
+     */
+    public BrewingReport {
+        proxies = Collections.unmodifiableMap(new LinkedHashMap<>(proxies));
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * Returns the validated proxy for the given service interface.
+     *
+     * @param <I>              the service interface type
+     * @param serviceInterface the service interface
+     * @return the proxy, or {@code null} if the interface was not brewed or failed validation
+     */
+    public <I> @Nullable I proxy(final Class<I> serviceInterface) {
+        Objects.requireNonNull(serviceInterface, "serviceInterface must not be null");
+        return serviceInterface.cast(this.proxies.get(serviceInterface));
+    }
+
+    /**
+     * Whether every service interface was brewed and validated without failure.
+     *
+     * @return {@code true} if there are no failures
+     */
+    public boolean successful() {
+        return this.failures.isEmpty();
+    }
+
+    /**
+     * A single validation failure.
+     *
+     * @param serviceInterface the top-level service interface that was being brewed
+     * @param method           the method that failed, or {@code null} if the interface itself could not be brewed
+     * @param cause            the exception or {@link LinkageError} raised while brewing or validating
+     */
+    public record Failure(Class<?> serviceInterface, @Nullable Method method, Throwable cause) {
+    }
+}
@@ -35,7 +35,6 @@ import io.github.namiuni.doburoku.standard.key.AnnotationKeyResolver;
 import io.github.namiuni.doburoku.standard.result.TranslationResultResolverRegistry;
 import java.util.Objects;
 import java.util.function.Consumer;
-import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.TranslatableComponent;
 import org.jspecify.annotations.NullMarked;
 
@@ -91,14 +90,7 @@ public final class DoburokuStandard<I> extends Doburoku<DoburokuStandard<I>, I>
     ) {
         final TranslationArgumentRegistry registry = new TranslationArgumentRegistry();
         configurator.accept(registry);
-
-        return this.argument(context -> {
-            final ComponentLike[] components = registry.resolve(context);
-            for (int i = 0; i < components.length; i++) {
-                components[i] = transformer.transform(context.arguments()[i].parameter(), components[i]);
-            }
-            return components;
-        });
+        return this.argument(registry.transformedBy(transformer));
     }
 
     /**
@@ -0,0 +1,152 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.argument;
+
+import io.github.namiuni.doburoku.annotation.annotations.Joining;
+import io.github.namiuni.doburoku.internal.ClassScopedCache;
+import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Joins the elements of a {@link Collection} argument into a single component.
+ *
+ * <p>Each element is rendered with the renderer registered for the element type of the parameter.
+ * Rendering stops after {@link Joining#limit()} elements and the rest is summarized by a translatable
+ * tail, so huge collections never render fully. The size of the collection is known up front, so
+ * the children are collected into a list of the exact size and the tail needs no extra iteration.
+ * Other {@link Iterable} types, such as {@link java.nio.file.Path}, are not joined.</p>
+ *
+ * <p>{@link Joining} settings are cached per parameter in a {@link ClassValue} of the declaring interface.
+ * Element types are resolved on each call, so no cache holds on to the types of a plugin class loader.</p>
+ */
+@NullMarked
+final class CollectionArgumentRenderer {
+
+    static final String MORE_FALLBACK = "and %s more";
+
+    private static final Joiner DEFAULT_JOINER = new Joiner(Component.text(", "), Integer.MAX_VALUE, "doburoku.joining.more");
+
+    private final ElementRenderer elementRenderer;
+    private final ClassScopedCache<Parameter, Joiner> joiners = new ClassScopedCache<>();
+
+    CollectionArgumentRenderer(final ElementRenderer elementRenderer) {
+        this.elementRenderer = elementRenderer;
+    }
+
+    ComponentLike render(final Parameter parameter, final Type type, final Collection<?> elements) {
+        final int size = elements.size();
+        if (size == 0) {
+            return Component.empty();
+        }
+
+        final Joiner joiner = this.joiner(parameter);
+        final Type elementType = elementType(type);
+        final Iterator<?> iterator = elements.iterator();
+        if (size == 1) {
+            return iterator.hasNext() ? this.renderElement(parameter, elementType, iterator.next()) : Component.empty();
+        }
+
+        // Concurrent collections may change while iterating, so only the iterator decides what is rendered
+        final List<ComponentLike> children = new ArrayList<>(Math.min(size, joiner.limit()) * 2 + 1);
+        int rendered = 0;
+        while (rendered < joiner.limit() && iterator.hasNext()) {
+            if (rendered > 0) {
+                children.add(joiner.separator());
+            }
+            children.add(this.renderElement(parameter, elementType, iterator.next()));
+            rendered++;
+        }
+
+        if (iterator.hasNext()) {
+            children.add(joiner.separator());
+            children.add(Component.translatable(joiner.more(), MORE_FALLBACK, Component.text(Math.max(size - rendered, 1))));
+        }
+        return Component.textOfChildren(children.toArray(ComponentLike[]::new));
+    }
+
+    void prepare(final Parameter parameter) {
+        this.joiner(parameter);
+    }
+
+    private ComponentLike renderElement(final Parameter parameter, final Type elementType, final @Nullable Object element) {
+        if (element == null) {
+            return Component.empty();
+        }
+        return this.elementRenderer.render(parameter, elementType, element);
+    }
+
+    private Joiner joiner(final Parameter parameter) {
+        final Class<?> declaringClass = parameter.getDeclaringExecutable().getDeclaringClass();
+        return this.joiners.get(declaringClass, parameter, it -> {
+            final Joining joining = it.getAnnotation(Joining.class);
+            if (joining == null) {
+                return DEFAULT_JOINER;
+            }
+            if (joining.limit() <= 0) {
+                throw new IllegalArgumentException("@Joining limit must be positive on parameter '%s' of %s".formatted(
+                        it.getName(),
+                        it.getDeclaringExecutable()
+                ));
+            }
+            return new Joiner(Component.text(joining.value()), joining.limit(), joining.more());
+        });
+    }
+
+    private static Type elementType(final Type type) {
+        return Objects.requireNonNullElse(
+                GenericTypeReflector.getTypeParameter(type, Iterable.class.getTypeParameters()[0]),
+                Object.class
+        );
+    }
+
+    /**
+     * Renders a single non-null element with the renderer registered for its type.
+     */
+    @FunctionalInterface
+    interface ElementRenderer {
+
+        /**
+         * Renders an element.
+         *
+         * @param parameter the parameter the collection belongs to
+         * @param type      the element type
+         * @param element   the element to render
+         * @return the rendered element
+         */
+        ComponentLike render(Parameter parameter, Type type, Object element);
+    }
+
+    private record Joiner(ComponentLike separator, int limit, String more) {
+    }
+}
@@ -24,9 +24,9 @@
 package io.github.namiuni.doburoku.standard.argument;
 
 import io.github.namiuni.doburoku.annotation.annotations.Name;
+import io.github.namiuni.doburoku.internal.ClassScopedCache;
 import java.lang.reflect.Parameter;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.lang.reflect.RecordComponent;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import net.kyori.adventure.text.ComponentLike;
@@ -39,6 +39,11 @@ import org.jspecify.annotations.NullMarked;
  * <p>Resolves the name from {@link Name} when present, otherwise converts the Java parameter name
  * to snake_case. Returns an {@link net.kyori.adventure.text.minimessage.translation.Argument}
  * wrapping the provided component.</p>
+ *
+ * <p>Record components of record-typed parameters are named {@code <parameter>_<component>}, so a
+ * {@code PlayerStats stats} parameter exposes {@code <stats_kills>} for its {@code kills()} component.</p>
+ *
+ * <p>Resolved names are cached on the declaring class of each parameter's method via a {@link ClassValue}.</p>
  */
 @NullMarked
 public final class MiniMessageArgumentTransformer implements TranslationArgumentTransformer {
@@ -46,7 +51,8 @@ public final class MiniMessageArgumentTransformer implements TranslationArgument
     private static final Pattern CAMEL_PATTERN = Pattern.compile("(?=\\p{Upper})");
     private static final String ANDER_SCORE = "_";
 
-    private final Map<Parameter, String> cache = new ConcurrentHashMap<>();
+    private final ClassScopedCache<Parameter, String> cache = new ClassScopedCache<>();
+    private final ClassScopedCache<ComponentSlot, String> componentCache = new ClassScopedCache<>();
 
     private MiniMessageArgumentTransformer() {
     }
@@ -67,15 +73,52 @@ public final class MiniMessageArgumentTransformer implements TranslationArgument
         return Argument.component(name, argument);
     }
 
-    private String resolveName(final Parameter parameter) {
-        return this.cache.computeIfAbsent(parameter, it -> {
+    @Override
+    @SuppressWarnings("PatternValidation")
+    public ComponentLike transform(final Parameter parameter, final RecordComponent component, final ComponentLike argument) {
+        final String name = this.resolveName(parameter, component);
+        return Argument.component(name, argument);
+    }
+
+    /**
+     * Resolves the MiniMessage argument name of a parameter.
+     *
+     * @param parameter the method parameter
+     * @return the value of {@link Name} if present, otherwise the parameter name in snake_case
+     */
+    public String resolveName(final Parameter parameter) {
+        final Class<?> declaringClass = parameter.getDeclaringExecutable().getDeclaringClass();
+        return this.cache.get(declaringClass, parameter, it -> {
             if (it.isAnnotationPresent(Name.class)) {
                 return it.getAnnotation(Name.class).value();
             } else {
-                return CAMEL_PATTERN.splitAsStream(it.getName())
-                        .map(String::toLowerCase)
-                        .collect(Collectors.joining(ANDER_SCORE));
+                return snakeCase(it.getName());
             }
         });
     }
+
+    /**
+     * Resolves the MiniMessage argument name of a record component of a record-typed parameter.
+     *
+     * @param parameter the method parameter
+     * @param component the record component of the parameter's type
+     * @return the parameter name followed by the record component name in snake_case
+     */
+    public String resolveName(final Parameter parameter, final RecordComponent component) {
+        final Class<?> declaringClass = parameter.getDeclaringExecutable().getDeclaringClass();
+        return this.componentCache.get(
+                declaringClass,
+                new ComponentSlot(parameter, component),
+                it -> this.resolveName(it.parameter()) + ANDER_SCORE + snakeCase(it.component().getName())
+        );
+    }
+
+    private static String snakeCase(final String name) {
+        return CAMEL_PATTERN.splitAsStream(name)
+                .map(String::toLowerCase)
+                .collect(Collectors.joining(ANDER_SCORE));
+    }
+
+    private record ComponentSlot(Parameter parameter, RecordComponent component) {
+    }
 }
@@ -25,22 +25,39 @@ package io.github.namiuni.doburoku.standard.argument;
 
 import io.github.namiuni.doburoku.api.argument.TranslationArgumentResolver;
 import io.github.namiuni.doburoku.api.invocation.InvocationContext;
+import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentLike;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Thread-safe implementation of {@link TranslationArgumentResolver}.
  *
  * <p>Renders method arguments into {@link ComponentLike} using a registry of type-specific renderers.
  * By default, {@link ComponentLike} values are passed through as-is, and other values are converted
- * via {@code Component.text(String.valueOf(value))}.</p>
+ * via {@code Component.text(String.valueOf(value))}. {@link java.util.Collection} values without a registered renderer
+ * are joined element by element as configured by {@link io.github.namiuni.doburoku.annotation.annotations.Joining}.</p>
+ *
+ * <p>When used through {@link #transformedBy(TranslationArgumentTransformer)}, record-typed arguments are
+ * additionally expanded into one argument per record component. The record accessors are bound into
+ * {@link MethodHandle}s once per record type, so expansion does not reflect per call. Records whose accessors
+ * cannot be accessed are not expanded and only render as a whole.</p>
  *
  * <p>This type is internal and may change without notice.</p>
  */
@@ -49,8 +66,29 @@ public final class TranslationArgumentRegistry implements TranslationArgumentRes
 
     private static final TranslationArgumentRenderer<Object> DEFAULT_RENDERER = (parameter, argument) -> Component.text(String.valueOf(argument));
     private static final TranslationArgumentRenderer<ComponentLike> COMPONENT_RENDERER = (parameter, argument) -> argument;
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final ClassValue<List<RecordAccessor>> RECORD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected List<RecordAccessor> computeValue(final Class<?> type) {
+            if (!type.isRecord()) {
+                return List.of();
+            }
+
+            final List<RecordAccessor> accessors = new ArrayList<>();
+            for (final RecordComponent component : type.getRecordComponents()) {
+                final RecordAccessor accessor = RecordAccessor.of(component);
+                if (accessor == null) {
+                    // Cached as not expandable, so the record falls back to String.valueOf on every call
+                    return List.of();
+                }
+                accessors.add(accessor);
+            }
+            return List.copyOf(accessors);
+        }
+    };
 
     private final Map<Type, TranslationArgumentRenderer<?>> argumentRenderers = new ConcurrentHashMap<>();
+    private final CollectionArgumentRenderer collectionRenderer = new CollectionArgumentRenderer(this::render);
 
     /**
      * Creates a registry.
@@ -75,19 +113,38 @@ public final class TranslationArgumentRegistry implements TranslationArgumentRes
             if (value == null) {
                 translations[i] = Component.empty();
             } else {
-                translations[i] = this.render(argument.parameter(), value);
+                translations[i] = this.render(argument.parameter(), argument.type(), value);
             }
         }
 
         return translations;
     }
 
-    private <T> ComponentLike render(final Parameter parameter, final T argument) {
+    /**
+     * Checks the {@link io.github.namiuni.doburoku.annotation.annotations.Joining} settings of the
+     * collection parameters of the given method.
+     *
+     * @param context a representative invocation of the method
+     * @throws IllegalArgumentException if a {@code Joining} limit is not positive
+     */
+    @Override
+    public void prepare(final InvocationContext context) {
+        for (final InvocationContext.Argument<?> argument : context.arguments()) {
+            final Type type = argument.type();
+            if (!this.argumentRenderers.containsKey(type) && Collection.class.isAssignableFrom(GenericTypeReflector.erase(type))) {
+                this.collectionRenderer.prepare(argument.parameter());
+            }
+        }
+    }
 
-        final Type type = parameter.getParameterizedType();
+    private <T> ComponentLike render(final Parameter parameter, final Type type, final T argument) {
+        final TranslationArgumentRenderer<?> registered = this.argumentRenderers.get(type);
+        if (registered == null && !(argument instanceof ComponentLike) && argument instanceof final Collection<?> elements) {
+            return this.collectionRenderer.render(parameter, type, elements);
+        }
 
         @SuppressWarnings("unchecked") final TranslationArgumentRenderer<T> renderer = (TranslationArgumentRenderer<T>) Objects.requireNonNullElseGet(
-                this.argumentRenderers.get(type),
+                registered,
                 () -> {
                     if (ComponentLike.class.isAssignableFrom(argument.getClass())) {
                         return COMPONENT_RENDERER;
@@ -100,6 +157,78 @@ public final class TranslationArgumentRegistry implements TranslationArgumentRes
         return renderer.render(parameter, argument);
     }
 
+    /**
+     * Returns a resolver that renders arguments with this registry and then passes each
+     * rendered component through the given transformer.
+     *
+     * @param transformer the transformer to apply to every rendered component
+     * @return a resolver backed by this registry
+     */
+    public TranslationArgumentResolver transformedBy(final TranslationArgumentTransformer transformer) {
+        return new TranslationArgumentResolver() {
+            @Override
+            public ComponentLike[] resolve(final InvocationContext context) {
+                return TranslationArgumentRegistry.this.resolve(context, transformer);
+            }
+
+            @Override
+            public void prepare(final InvocationContext context) {
+                TranslationArgumentRegistry.this.prepare(context);
+            }
+        };
+    }
+
+    private ComponentLike[] resolve(final InvocationContext context, final TranslationArgumentTransformer transformer) {
+        final ComponentLike[] components = this.resolve(context);
+        final InvocationContext.Argument<?>[] arguments = context.arguments();
+        int expanded = 0;
+        for (int i = 0; i < components.length; i++) {
+            components[i] = transformer.transform(arguments[i].parameter(), components[i]);
+            expanded += RECORD_ACCESSORS.get(GenericTypeReflector.erase(arguments[i].type())).size();
+        }
+        if (expanded == 0) {
+            return components;
+        }
+
+        // Record components go after the method arguments so positional arguments keep their index
+        final ComponentLike[] expandedComponents = Arrays.copyOf(components, components.length + expanded);
+        int index = components.length;
+        for (final InvocationContext.Argument<?> argument : arguments) {
+            final Object value = argument.value();
+            for (final RecordAccessor accessor : RECORD_ACCESSORS.get(GenericTypeReflector.erase(argument.type()))) {
+                final ComponentLike component = this.expand(argument.parameter(), accessor, value);
+                expandedComponents[index++] = transformer.transform(argument.parameter(), accessor.component(), component);
+            }
+        }
+        return expandedComponents;
+    }
+
+    /**
+     * Returns the record components that arguments of the given type are expanded into by
+     * {@link #transformedBy(TranslationArgumentTransformer)}.
+     *
+     * @param type the erased argument type
+     * @return the record components in declaration order, empty if the type is not a record or its
+     *         accessors cannot be accessed
+     */
+    public static List<RecordComponent> expandedComponents(final Class<?> type) {
+        return RECORD_ACCESSORS.get(type).stream()
+                .map(RecordAccessor::component)
+                .toList();
+    }
+
+    private ComponentLike expand(final Parameter parameter, final RecordAccessor accessor, final @Nullable Object record) {
+        if (record == null) {
+            return Component.empty();
+        }
+
+        final Object value = accessor.get(record);
+        if (value == null) {
+            return Component.empty();
+        }
+        return this.render(parameter, accessor.component().getGenericType(), value);
+    }
+
     /**
      * Registers a renderer for the given type.
      *
@@ -136,4 +265,27 @@ public final class TranslationArgumentRegistry implements TranslationArgumentRes
     public <T> TranslationArgumentRegistry plus(final TypeToken<T> type, final TranslationArgumentRenderer<T> renderer) {
         return this.plus(type.getType(), renderer);
     }
+
+    private record RecordAccessor(RecordComponent component, MethodHandle handle) {
+
+        private static @Nullable RecordAccessor of(final RecordComponent component) {
+            final Method accessor = component.getAccessor();
+            try {
+                accessor.trySetAccessible();
+                return new RecordAccessor(component, MethodHandles.lookup().unreflect(accessor).asType(ACCESSOR_TYPE));
+            } catch (final IllegalAccessException exception) {
+                return null;
+            }
+        }
+
+        private @Nullable Object get(final Object record) {
+            try {
+                return (Object) this.handle.invokeExact(record);
+            } catch (final RuntimeException | Error exception) {
+                throw exception;
+            } catch (final Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        }
+    }
 }
@@ -24,6 +24,7 @@
 package io.github.namiuni.doburoku.standard.argument;
 
 import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
 import net.kyori.adventure.text.ComponentLike;
 import org.jspecify.annotations.NullMarked;
 
@@ -43,4 +44,19 @@ public interface TranslationArgumentTransformer {
      * @return the transformed component
      */
     ComponentLike transform(Parameter parameter, ComponentLike argument);
+
+    /**
+     * Transforms a rendered record component of a record-typed argument.
+     *
+     * <p>Record-typed arguments are expanded into one extra argument per record component, appended after
+     * the method arguments. The default implementation returns the component unchanged.</p>
+     *
+     * @param parameter the reflective parameter to which the record argument belongs
+     * @param component the record component that was rendered
+     * @param argument  the already-rendered component value
+     * @return the transformed component
+     */
+    default ComponentLike transform(final Parameter parameter, final RecordComponent component, final ComponentLike argument) {
+        return argument;
+    }
 }
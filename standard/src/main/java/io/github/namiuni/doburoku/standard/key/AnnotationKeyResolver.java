@@ -24,23 +24,40 @@
 package io.github.namiuni.doburoku.standard.key;
 
 import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.KeyPrefix;
 import io.github.namiuni.doburoku.api.invocation.InvocationContext;
 import io.github.namiuni.doburoku.api.key.TranslationKeyResolver;
+import io.github.namiuni.doburoku.internal.ClassScopedCache;
 import io.github.namiuni.doburoku.standard.key.exception.MissingTranslationKeyException;
 import java.lang.reflect.Method;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.List;
 import org.jspecify.annotations.NullMarked;
 
 /**
  * Resolves translation keys from the {@link Key} annotation on target methods.
  *
- * <p>Keys are cached per {@link Method} to avoid repeated lookups. This implementation is thread-safe.</p>
+ * <p>Keys are cached per {@link Method} to avoid repeated lookups. The cache is attached to the
+ * declaring interface through a {@link ClassValue}, so it never keeps a discarded class loader reachable.
+ * This implementation is thread-safe.</p>
+ *
+ * <p>{@link KeyPrefix} prefixes of the declaring interface, its accessor and its enclosing interfaces are
+ * joined once per interface, and each full key is concatenated and interned once per method. This happens on
+ * the first invocation of the method, or ahead of time when the interface is validated by
+ * {@link io.github.namiuni.doburoku.standard.Brewery#brewAll(java.util.Collection)}.</p>
  */
 @NullMarked
 public final class AnnotationKeyResolver implements TranslationKeyResolver {
 
-    private final Map<Method, String> cache = new ConcurrentHashMap<>();
+    private static final String SEPARATOR = ".";
+    private static final ClassValue<String> PREFIXES = new ClassValue<>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return computePrefix(type);
+        }
+    };
+
+    private final ClassScopedCache<Method, String> cache = new ClassScopedCache<>();
 
     /**
      * Creates a new key resolver.
@@ -59,7 +76,7 @@ public final class AnnotationKeyResolver implements TranslationKeyResolver {
     @Override
     public String resolve(final InvocationContext context) throws MissingTranslationKeyException {
         final Method method = context.method();
-        return this.cache.computeIfAbsent(method, this::extractKey);
+        return this.cache.get(method.getDeclaringClass(), method, this::extractKey);
     }
 
     private String extractKey(final Method method) {
@@ -67,6 +84,54 @@ public final class AnnotationKeyResolver implements TranslationKeyResolver {
         if (annotation == null) {
             throw new MissingTranslationKeyException("Missing @Key on method: " + method);
         }
-        return annotation.value();
+        final String prefix = prefix(method.getDeclaringClass());
+        return prefix.isEmpty() ? annotation.value() : (prefix + annotation.value()).intern();
+    }
+
+    /**
+     * Gets the {@link KeyPrefix} prefixes that apply to the methods of the given interface.
+     *
+     * <p>The prefixes of enclosing interfaces come first, followed by the prefix of the accessor returning
+     * the interface and the prefix of the interface itself.</p>
+     *
+     * @param type the interface declaring translation methods
+     * @return the joined prefixes followed by {@code '.'}, or an empty string if no prefix applies
+     * @throws IllegalStateException if accessors of the interface declare different prefixes
+     */
+    public static String prefix(final Class<?> type) {
+        return PREFIXES.get(type);
+    }
+
+    private static String computePrefix(final Class<?> type) {
+        final StringBuilder prefix = new StringBuilder();
+        final Class<?> enclosingClass = type.getDeclaringClass();
+        if (enclosingClass != null && enclosingClass.isInterface()) {
+            prefix.append(prefix(enclosingClass));
+
+            // Keys are cached per method of the child interface, which is the same whichever accessor
+            // returned the child proxy, so all accessors must agree on one prefix
+            final List<String> accessorPrefixes = Arrays.stream(enclosingClass.getDeclaredMethods())
+                    .filter(method -> method.getReturnType() == type && method.isAnnotationPresent(KeyPrefix.class))
+                    .map(method -> method.getAnnotation(KeyPrefix.class).value())
+                    .distinct()
+                    .toList();
+            if (accessorPrefixes.size() > 1) {
+                throw new IllegalStateException("Accessors of %s declare different key prefixes, but a child interface has one prefix: %s"
+                        .formatted(type.getName(), accessorPrefixes));
+            }
+            accessorPrefixes.forEach(accessorPrefix -> append(prefix, accessorPrefix));
+        }
+
+        final KeyPrefix keyPrefix = type.getAnnotation(KeyPrefix.class);
+        if (keyPrefix != null) {
+            append(prefix, keyPrefix.value());
+        }
+        return prefix.toString().intern();
+    }
+
+    private static void append(final StringBuilder prefix, final String segment) {
+        if (!segment.isEmpty()) {
+            prefix.append(segment).append(SEPARATOR);
+        }
     }
 }
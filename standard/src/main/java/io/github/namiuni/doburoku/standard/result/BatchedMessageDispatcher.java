@@ -0,0 +1,260 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Queues messages and sends them in batches, once per flush instead of once per call.
+ *
+ * <p>Any thread may queue messages without locking. A flush drains the messages queued so far, groups
+ * them by audience in the order the audiences first appear, optionally merges consecutive chat lines into
+ * one message and hands them to the sender. Flushes are driven by a {@link FlushTrigger}, or by calling
+ * {@link #flush()} directly. This class is thread-safe.</p>
+ */
+@NullMarked
+public final class BatchedMessageDispatcher implements AutoCloseable {
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final BiConsumer<? super Audience, ? super Component> sender;
+    private final int maximumMergedLines;
+    private final @Nullable Runnable stop;
+    private volatile boolean closed;
+
+    private BatchedMessageDispatcher(final Builder builder) {
+        this.sender = builder.sender;
+        this.maximumMergedLines = builder.maximumMergedLines;
+        this.stop = builder.trigger == null ? null : builder.trigger.start(this::flush);
+    }
+
+    /**
+     * Starts building a dispatcher.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a transformer whose results queue the message for an audience.
+     *
+     * @return the transformer
+     */
+    public TranslatableComponentTransformer<Consumer<Audience>> transformer() {
+        return (method, component) -> audience -> this.enqueue(audience, component);
+    }
+
+    /**
+     * Queues a message until the next flush.
+     *
+     * <p>A message queued while the dispatcher closes is either rejected or sent, never left in the queue.</p>
+     *
+     * @param audience the receiving audience
+     * @param message  the message
+     * @throws IllegalStateException if the dispatcher is closed
+     */
+    public void enqueue(final Audience audience, final Component message) {
+        if (this.closed) {
+            throw new IllegalStateException("Dispatcher is closed");
+        }
+        this.queue.offer(new Pending(Objects.requireNonNull(audience, "audience"), Objects.requireNonNull(message, "message")));
+        this.pending.incrementAndGet();
+        if (this.closed) {
+            // Closed after the check above, so the final flush may have missed this message
+            this.flush();
+        }
+    }
+
+    /**
+     * Returns the number of queued messages.
+     *
+     * @return the number of messages waiting for the next flush
+     */
+    public int pending() {
+        return this.pending.get();
+    }
+
+    /**
+     * Sends the messages queued so far. Messages queued during the flush wait for the next one.
+     *
+     * <p>A failing send does not keep the other audiences from receiving their messages; the first
+     * failure is rethrown once every batch has been handed to the sender.</p>
+     *
+     * @return the number of sends
+     */
+    public int flush() {
+        this.flushLock.lock();
+        try {
+            final int count = this.pending.get();
+            if (count == 0) {
+                return 0;
+            }
+
+            final Map<Audience, List<Component>> batches = new LinkedHashMap<>();
+            int drained = 0;
+            while (drained < count) {
+                final Pending next = this.queue.poll();
+                if (next == null) {
+                    break;
+                }
+                drained++;
+                batches.computeIfAbsent(next.audience(), it -> new ArrayList<>()).add(next.message());
+            }
+            this.pending.addAndGet(-drained);
+
+            int sends = 0;
+            RuntimeException failure = null;
+            for (final Map.Entry<Audience, List<Component>> batch : batches.entrySet()) {
+                try {
+                    sends += this.dispatch(batch.getKey(), batch.getValue());
+                } catch (final RuntimeException exception) {
+                    if (failure == null) {
+                        failure = exception;
+                    } else {
+                        failure.addSuppressed(exception);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return sends;
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the flush trigger and sends the remaining messages.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        if (this.stop != null) {
+            this.stop.run();
+        }
+        this.flush();
+    }
+
+    private int dispatch(final Audience audience, final List<Component> messages) {
+        if (this.maximumMergedLines == 1) {
+            for (final Component message : messages) {
+                this.sender.accept(audience, message);
+            }
+            return messages.size();
+        }
+
+        int sends = 0;
+        for (int from = 0; from < messages.size(); from += this.maximumMergedLines) {
+            final List<Component> lines = messages.subList(from, Math.min(messages.size(), from + this.maximumMergedLines));
+            this.sender.accept(audience, lines.size() == 1 ? lines.getFirst() : Component.join(JoinConfiguration.newlines(), lines));
+            sends++;
+        }
+        return sends;
+    }
+
+    private record Pending(Audience audience, Component message) {
+    }
+
+    /**
+     * Builder of {@link BatchedMessageDispatcher}.
+     */
+    public static final class Builder {
+
+        private @Nullable FlushTrigger trigger;
+        private BiConsumer<? super Audience, ? super Component> sender = Audience::sendMessage;
+        private int maximumMergedLines = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the trigger flushing the dispatcher. Without one, {@link #flush()} must be called directly.
+         *
+         * @param trigger the flush trigger
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder trigger(final FlushTrigger trigger) {
+            this.trigger = Objects.requireNonNull(trigger, "trigger");
+            return this;
+        }
+
+        /**
+         * Sets how messages are sent, {@link Audience#sendMessage(Component)} by default.
+         *
+         * @param sender sends a message to an audience
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder sender(final BiConsumer<? super Audience, ? super Component> sender) {
+            this.sender = Objects.requireNonNull(sender, "sender");
+            return this;
+        }
+
+        /**
+         * Merges up to the given number of consecutive messages to the same audience into one message,
+         * separated by newlines. Only suitable for chat senders.
+         *
+         * @param maximumLines the maximum number of lines per message, {@code 1} to disable merging
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder mergeLines(final int maximumLines) {
+            if (maximumLines <= 0) {
+                throw new IllegalArgumentException("Maximum lines must be positive: " + maximumLines);
+            }
+            this.maximumMergedLines = maximumLines;
+            return this;
+        }
+
+        /**
+         * Builds the dispatcher and starts its trigger.
+         *
+         * @return the dispatcher
+         */
+        public BatchedMessageDispatcher build() {
+            return new BatchedMessageDispatcher(this);
+        }
+    }
+}
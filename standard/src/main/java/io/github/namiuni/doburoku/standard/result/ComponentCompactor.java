@@ -0,0 +1,164 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import io.github.namiuni.doburoku.standard.argument.TranslationArgumentTransformer;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.VirtualComponent;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Removes redundant structure from component trees before they are cached or sent.
+ *
+ * <p>Empty text nodes without children, such as the {@link Component#empty()} rendered for {@code null}
+ * arguments, are dropped, then {@link Component#compact()} merges adjacent texts of equal style and
+ * removes styles already inherited from the parent. Translation arguments are compacted individually and
+ * keep their positions. Virtual components, such as named MiniMessage arguments, are left untouched since
+ * they only resolve during translation; their values are compacted by wrapping the argument transformer
+ * that creates them with {@link #compactingArguments(TranslationArgumentTransformer)}.</p>
+ */
+@NullMarked
+public final class ComponentCompactor {
+
+    private ComponentCompactor() {
+    }
+
+    /**
+     * Compacts a component tree.
+     *
+     * @param component the component
+     * @return the compacted component, rendering the same as the given one
+     */
+    public static Component compact(final Component component) {
+        if (component instanceof VirtualComponent) {
+            return component;
+        }
+        return strip(component).compact();
+    }
+
+    /**
+     * Compacts the arguments of a translatable component, leaving the component itself untranslated.
+     *
+     * @param component the translatable component
+     * @return the component with compacted arguments
+     */
+    public static TranslatableComponent compactArguments(final TranslatableComponent component) {
+        final List<TranslationArgument> arguments = component.arguments();
+        if (arguments.isEmpty()) {
+            return component;
+        }
+
+        final List<ComponentLike> compacted = new ArrayList<>(arguments.size());
+        boolean changed = false;
+        for (final TranslationArgument argument : arguments) {
+            if (argument.value() instanceof final Component value) {
+                final Component result = compact(value);
+                changed |= result != value;
+                compacted.add(result);
+            } else {
+                compacted.add(argument);
+            }
+        }
+        return changed ? component.arguments(compacted) : component;
+    }
+
+    /**
+     * Wraps a renderer so that its output is compacted, for example to compact messages before
+     * {@link SerializedMessageCache} serializes them.
+     *
+     * @param renderer the renderer to wrap
+     * @return a renderer returning compacted components
+     */
+    public static BiFunction<Component, Locale, Component> compacting(final BiFunction<Component, Locale, Component> renderer) {
+        Objects.requireNonNull(renderer, "renderer");
+        return (component, locale) -> compact(renderer.apply(component, locale));
+    }
+
+    /**
+     * Wraps an argument transformer so that rendered arguments are compacted before it transforms them.
+     *
+     * <p>Transformers wrapping arguments into virtual components, such as
+     * {@link io.github.namiuni.doburoku.standard.argument.MiniMessageArgumentTransformer}, hide the values from
+     * {@link #compactArguments(TranslatableComponent)}, so their arguments are only compacted this way.</p>
+     *
+     * @param transformer the transformer to wrap
+     * @return a transformer receiving compacted arguments
+     */
+    public static TranslationArgumentTransformer compactingArguments(final TranslationArgumentTransformer transformer) {
+        Objects.requireNonNull(transformer, "transformer");
+        return new TranslationArgumentTransformer() {
+            @Override
+            public ComponentLike transform(final Parameter parameter, final ComponentLike argument) {
+                return transformer.transform(parameter, compact(argument.asComponent()));
+            }
+
+            @Override
+            public ComponentLike transform(final Parameter parameter, final RecordComponent component, final ComponentLike argument) {
+                return transformer.transform(parameter, component, compact(argument.asComponent()));
+            }
+        };
+    }
+
+    private static Component strip(final Component component) {
+        final Component result = component instanceof final TranslatableComponent translatable
+                ? compactArguments(translatable)
+                : component;
+
+        final List<Component> children = component.children();
+        if (children.isEmpty()) {
+            return result;
+        }
+
+        final List<Component> stripped = new ArrayList<>(children.size());
+        boolean changed = false;
+        for (final Component child : children) {
+            final Component compacted = child instanceof VirtualComponent ? child : strip(child);
+            if (isEmpty(compacted)) {
+                changed = true;
+            } else {
+                changed |= compacted != child;
+                stripped.add(compacted);
+            }
+        }
+        return changed ? result.children(stripped) : result;
+    }
+
+    private static boolean isEmpty(final Component component) {
+        return component instanceof final TextComponent text
+                && !(component instanceof VirtualComponent)
+                && text.content().isEmpty()
+                && component.children().isEmpty();
+    }
+}
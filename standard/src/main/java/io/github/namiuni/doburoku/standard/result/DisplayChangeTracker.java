@@ -0,0 +1,172 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.TranslatableComponent;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Skips sending messages to an audience when a display slot would show the same content again.
+ *
+ * <p>Meant for scoreboards, action bars and boss bars refreshed every tick. For each audience and slot,
+ * the tracker remembers a fingerprint of the last message sent: its translation key and argument values,
+ * with named MiniMessage arguments unwrapped to their values. A message whose fingerprint matches is not
+ * sent again. Each audience keeps at most a fixed number of slots, dropping the least recently updated.
+ * Audiences are held weakly, so their state goes away once they are no longer referenced; call
+ * {@link #forget(Audience)} on disconnect, or when the locale of an audience changes. This class is
+ * thread-safe.</p>
+ */
+@NullMarked
+public final class DisplayChangeTracker {
+
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maximumSlots;
+
+    private DisplayChangeTracker(final int maximumSlots) {
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.maximumSlots = maximumSlots;
+    }
+
+    /**
+     * Creates a tracker.
+     *
+     * @param maximumSlots the maximum number of slots remembered per audience
+     * @return the tracker
+     */
+    public static DisplayChangeTracker create(final int maximumSlots) {
+        if (maximumSlots <= 0) {
+            throw new IllegalArgumentException("Maximum slots must be positive: " + maximumSlots);
+        }
+        return new DisplayChangeTracker(maximumSlots);
+    }
+
+    /**
+     * Returns a transformer whose results send messages through the given sender only when they changed.
+     * Every method using the transformer writes to the given display slot, so a message from one method
+     * replaces the message of another for the purpose of change detection.
+     *
+     * @param slot   the display slot, for example {@code "action_bar"}
+     * @param sender sends a message to an audience, for example {@code Audience::sendActionBar}
+     * @return the transformer
+     */
+    public TranslatableComponentTransformer<Consumer<Audience>> transformer(final Object slot, final BiConsumer<? super Audience, ? super TranslatableComponent> sender) {
+        Objects.requireNonNull(slot, "slot");
+        Objects.requireNonNull(sender, "sender");
+        return (method, component) -> {
+            final MessageFingerprint fingerprint = MessageFingerprint.of(component);
+            return audience -> {
+                if (this.update(audience, slot, fingerprint)) {
+                    sender.accept(audience, component);
+                }
+            };
+        };
+    }
+
+    /**
+     * Records a message for an audience and slot.
+     *
+     * @param audience  the audience
+     * @param slot      the display slot
+     * @param component the message
+     * @return {@code true} if the message differs from the last one recorded for the slot and should be sent
+     */
+    public boolean update(final Audience audience, final Object slot, final TranslatableComponent component) {
+        return this.update(audience, slot, MessageFingerprint.of(component));
+    }
+
+    /**
+     * Forgets every slot of an audience, so that its next messages are sent.
+     *
+     * @param audience the audience
+     */
+    public void forget(final Audience audience) {
+        final Stripe stripe = this.stripe(audience);
+        stripe.lock.lock();
+        try {
+            stripe.audiences.remove(audience);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of audiences with remembered slots.
+     *
+     * @return the number of audiences
+     */
+    public int size() {
+        int size = 0;
+        for (final Stripe stripe : this.stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.audiences.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private boolean update(final Audience audience, final Object slot, final MessageFingerprint fingerprint) {
+        final Stripe stripe = this.stripe(audience);
+        stripe.lock.lock();
+        try {
+            final Map<Object, MessageFingerprint> slots = stripe.audiences.computeIfAbsent(audience, it -> slots(this.maximumSlots));
+            return !fingerprint.equals(slots.put(slot, fingerprint));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripe(final Audience audience) {
+        return this.stripes[Math.floorMod(audience.hashCode(), STRIPES)];
+    }
+
+    private static Map<Object, MessageFingerprint> slots(final int capacity) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, MessageFingerprint> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Audience, Map<Object, MessageFingerprint>> audiences = new WeakHashMap<>();
+    }
+}
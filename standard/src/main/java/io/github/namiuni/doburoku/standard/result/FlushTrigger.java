@@ -0,0 +1,87 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Decides when a {@link BatchedMessageDispatcher} flushes its queue, typically once per server tick.
+ *
+ * <p>A Paper plugin might start a repeating task:</p>
+ * <pre>{@code
+ * FlushTrigger trigger = flush -> server.getScheduler().runTaskTimer(plugin, flush, 1L, 1L)::cancel;
+ * }</pre>
+ */
+@NullMarked
+@FunctionalInterface
+public interface FlushTrigger {
+
+    /**
+     * Starts calling the flush task.
+     *
+     * @param flush the task flushing the dispatcher
+     * @return a task that stops calling the flush task
+     */
+    Runnable start(Runnable flush);
+
+    /**
+     * Creates a trigger that flushes only when {@link Manual#tick()} is called, for tests and for
+     * schedulers driven by hand.
+     *
+     * @return the trigger
+     */
+    static Manual manual() {
+        return new Manual();
+    }
+
+    /**
+     * Trigger flushing whenever {@link #tick()} is called.
+     */
+    final class Manual implements FlushTrigger {
+
+        private final List<Runnable> flushes = new CopyOnWriteArrayList<>();
+
+        private Manual() {
+        }
+
+        @Override
+        public Runnable start(final Runnable flush) {
+            Objects.requireNonNull(flush, "flush");
+            this.flushes.add(flush);
+            return () -> this.flushes.remove(flush);
+        }
+
+        /**
+         * Runs every started flush task once.
+         */
+        public void tick() {
+            for (final Runnable flush : this.flushes) {
+                flush.run();
+            }
+        }
+    }
+}
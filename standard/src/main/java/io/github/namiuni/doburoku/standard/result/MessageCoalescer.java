@@ -0,0 +1,327 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import io.github.namiuni.doburoku.annotation.annotations.Coalesce;
+import io.github.namiuni.doburoku.internal.ClassScopedCache;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.translation.Argument;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Drops or collapses repeats of messages annotated with {@link Coalesce}, per audience.
+ *
+ * <p>Messages of methods without the annotation are sent right away. For annotated methods, the first
+ * message of a window is sent right away and repeats within the window are dropped or counted. Counted
+ * repeats are sent as one message, with the arguments of the latest repeat and their number as the
+ * {@value #COUNT_ARGUMENT} argument, when a flush finds the window ended or the next message opens a new
+ * window. Flushes are driven by a {@link FlushTrigger}, or by calling {@link #flush()} directly.</p>
+ *
+ * <p>Open windows are spread over independently locked stripes by audience, and removed once they end,
+ * so the state only grows with the audiences currently receiving repeats. This class is
+ * thread-safe.</p>
+ */
+@NullMarked
+public final class MessageCoalescer implements AutoCloseable {
+
+    /**
+     * The name of the argument holding the number of messages a {@link Coalesce.Mode#COUNT} message
+     * stands for.
+     */
+    public static final String COUNT_ARGUMENT = "count";
+
+    private static final int STRIPES = 64;
+    private static final Policy UNTHROTTLED = new Policy(0L, Coalesce.Mode.DROP, false);
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final BiConsumer<? super Audience, ? super Component> sender;
+    private final LongSupplier clock;
+    private final @Nullable Runnable stop;
+    private final ClassScopedCache<Method, Policy> policies = new ClassScopedCache<>();
+
+    private MessageCoalescer(final Builder builder) {
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.sender = builder.sender;
+        this.clock = builder.clock;
+        this.stop = builder.trigger == null ? null : builder.trigger.start(this::flush);
+    }
+
+    /**
+     * Starts building a coalescer.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a transformer whose results send the message to an audience, throttled according to the
+     * {@link Coalesce} annotation of the method.
+     *
+     * @return the transformer
+     */
+    public TranslatableComponentTransformer<Consumer<Audience>> transformer() {
+        return new TranslatableComponentTransformer<>() {
+            @Override
+            public Consumer<Audience> transform(final Method method, final TranslatableComponent component) {
+                final Policy policy = MessageCoalescer.this.policy(method);
+                if (policy == UNTHROTTLED) {
+                    return audience -> MessageCoalescer.this.sender.accept(audience, component);
+                }
+                return audience -> MessageCoalescer.this.offer(audience, method, policy, component);
+            }
+
+            @Override
+            public void prepare(final Method method) {
+                MessageCoalescer.this.policy(method);
+            }
+        };
+    }
+
+    /**
+     * Sends the collapsed repeats of ended windows and forgets those windows.
+     *
+     * @return the number of messages sent
+     */
+    public int flush() {
+        return this.drain(false);
+    }
+
+    /**
+     * Returns the number of open windows.
+     *
+     * @return the number of windows
+     */
+    public int size() {
+        int size = 0;
+        for (final Stripe stripe : this.stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.windows.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Stops the flush trigger and sends the collapsed repeats of every open window.
+     */
+    @Override
+    public void close() {
+        if (this.stop != null) {
+            this.stop.run();
+        }
+        this.drain(true);
+    }
+
+    private Policy policy(final Method method) {
+        return this.policies.get(method.getDeclaringClass(), method, it -> {
+            final Coalesce coalesce = it.getAnnotation(Coalesce.class);
+            if (coalesce == null) {
+                return UNTHROTTLED;
+            }
+            if (coalesce.window() <= 0) {
+                throw new IllegalArgumentException("Coalesce window must be positive: " + it);
+            }
+            return new Policy(coalesce.unit().toNanos(coalesce.window()), coalesce.mode(), coalesce.byArguments());
+        });
+    }
+
+    private void offer(final Audience audience, final Method method, final Policy policy, final TranslatableComponent component) {
+        final long now = this.clock.getAsLong();
+        final WindowKey key = new WindowKey(audience, method, policy.byArguments() ? MessageFingerprint.of(component) : null);
+        final Stripe stripe = this.stripe(audience);
+        final TranslatableComponent collapsed;
+        stripe.lock.lock();
+        try {
+            final Window window = stripe.windows.get(key);
+            if (window != null && now - window.start < policy.windowNanos()) {
+                window.repeats++;
+                window.latest = component;
+                return;
+            }
+            collapsed = window == null ? null : window.collapsed();
+            stripe.windows.put(key, new Window(now, policy, component));
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        if (collapsed != null) {
+            this.sender.accept(audience, collapsed);
+        }
+        this.sender.accept(audience, policy.mode() == Coalesce.Mode.COUNT ? counted(component, 1) : component);
+    }
+
+    private int drain(final boolean all) {
+        final long now = this.clock.getAsLong();
+        final List<Pending> collapsed = new ArrayList<>();
+        for (final Stripe stripe : this.stripes) {
+            stripe.lock.lock();
+            try {
+                final Iterator<Map.Entry<WindowKey, Window>> iterator = stripe.windows.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    final Map.Entry<WindowKey, Window> entry = iterator.next();
+                    final Window window = entry.getValue();
+                    if (all || now - window.start >= window.policy.windowNanos()) {
+                        iterator.remove();
+                        final TranslatableComponent message = window.collapsed();
+                        if (message != null) {
+                            collapsed.add(new Pending(entry.getKey().audience(), message));
+                        }
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        for (final Pending pending : collapsed) {
+            this.sender.accept(pending.audience(), pending.message());
+        }
+        return collapsed.size();
+    }
+
+    private Stripe stripe(final Audience audience) {
+        return this.stripes[Math.floorMod(audience.hashCode(), STRIPES)];
+    }
+
+    private static TranslatableComponent counted(final TranslatableComponent component, final int count) {
+        final List<ComponentLike> arguments = new ArrayList<>(component.arguments().size() + 1);
+        arguments.addAll(component.arguments());
+        arguments.add(Argument.component(COUNT_ARGUMENT, Component.text(count)));
+        return component.arguments(arguments);
+    }
+
+    private record Policy(long windowNanos, Coalesce.Mode mode, boolean byArguments) {
+    }
+
+    private record WindowKey(Audience audience, Method method, @Nullable MessageFingerprint fingerprint) {
+    }
+
+    private record Pending(Audience audience, TranslatableComponent message) {
+    }
+
+    private static final class Window {
+
+        private final long start;
+        private final Policy policy;
+        private TranslatableComponent latest;
+        private int repeats;
+
+        private Window(final long start, final Policy policy, final TranslatableComponent latest) {
+            this.start = start;
+            this.policy = policy;
+            this.latest = latest;
+        }
+
+        private @Nullable TranslatableComponent collapsed() {
+            return this.policy.mode() == Coalesce.Mode.COUNT && this.repeats > 0 ? counted(this.latest, this.repeats) : null;
+        }
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<WindowKey, Window> windows = new HashMap<>();
+    }
+
+    /**
+     * Builder of {@link MessageCoalescer}.
+     */
+    public static final class Builder {
+
+        private @Nullable FlushTrigger trigger;
+        private BiConsumer<? super Audience, ? super Component> sender = Audience::sendMessage;
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the trigger flushing ended windows. Without one, {@link #flush()} must be called directly.
+         *
+         * @param trigger the flush trigger
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder trigger(final FlushTrigger trigger) {
+            this.trigger = Objects.requireNonNull(trigger, "trigger");
+            return this;
+        }
+
+        /**
+         * Sets how messages are sent, {@link Audience#sendMessage(Component)} by default.
+         *
+         * @param sender sends a message to an audience
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder sender(final BiConsumer<? super Audience, ? super Component> sender) {
+            this.sender = Objects.requireNonNull(sender, "sender");
+            return this;
+        }
+
+        /**
+         * Sets the clock measuring windows, {@link System#nanoTime()} by default.
+         *
+         * @param clock returns the current time in nanoseconds
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder clock(final LongSupplier clock) {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
+        /**
+         * Builds the coalescer and starts its trigger.
+         *
+         * @return the coalescer
+         */
+        public MessageCoalescer build() {
+            return new MessageCoalescer(this);
+        }
+    }
+}
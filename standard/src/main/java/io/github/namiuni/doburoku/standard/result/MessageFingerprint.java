@@ -0,0 +1,66 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.VirtualComponent;
+import net.kyori.adventure.text.VirtualComponentRenderer;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translation key and argument values of a message, with a precomputed hash.
+ *
+ * @param hash      the precomputed hash
+ * @param key       the translation key
+ * @param arguments the argument values
+ */
+@NullMarked
+record MessageFingerprint(int hash, String key, List<@Nullable Object> arguments) {
+
+    @SuppressWarnings("unchecked")
+    static MessageFingerprint of(final TranslatableComponent component) {
+        final List<TranslationArgument> arguments = component.arguments();
+        final List<@Nullable Object> values = new ArrayList<>(arguments.size());
+        for (final TranslationArgument argument : arguments) {
+            Object value = argument.value();
+            // Named MiniMessage arguments are virtual components that compare by identity
+            if (value instanceof final VirtualComponent virtual && virtual.contextType() == Void.class) {
+                final ComponentLike rendered = ((VirtualComponentRenderer<@Nullable Void>) virtual.renderer()).apply(null);
+                value = rendered == null ? null : rendered.asComponent();
+            }
+            values.add(value);
+        }
+        return new MessageFingerprint(31 * component.key().hashCode() + values.hashCode(), component.key(), values);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
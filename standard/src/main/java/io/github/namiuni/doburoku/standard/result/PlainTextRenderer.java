@@ -0,0 +1,430 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import io.github.namiuni.doburoku.annotation.PluralCategory;
+import io.github.namiuni.doburoku.annotation.PluralRule;
+import io.github.namiuni.doburoku.annotation.PluralRules;
+import io.github.namiuni.doburoku.annotation.annotations.Coalesce;
+import io.github.namiuni.doburoku.annotation.annotations.Plural;
+import io.github.namiuni.doburoku.api.invocation.InvocationContext;
+import io.github.namiuni.doburoku.internal.ClassScopedCache;
+import io.github.namiuni.doburoku.standard.argument.MiniMessageArgumentTransformer;
+import io.github.namiuni.doburoku.standard.argument.TranslationArgumentRegistry;
+import io.github.namiuni.doburoku.standard.translation.PluralCount;
+import io.github.namiuni.doburoku.standard.translation.TranslationInvalidationListener;
+import io.github.namiuni.doburoku.standard.translation.TranslationSource;
+import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.VirtualComponent;
+import net.kyori.adventure.text.VirtualComponentRenderer;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Renders invocations of methods returning {@link String} straight to plain text, without building
+ * component trees for the message itself.
+ *
+ * <p>Applies to methods that return {@code String} and take a {@link Locale} parameter. The MiniMessage
+ * template of each key and locale is parsed once with slot components in place of its placeholders, rendered
+ * and flattened into literal text and argument slots. Invocations only append the literals and the
+ * plain text of the arguments to a per-thread buffer, producing the same text as rendering the
+ * {@link net.kyori.adventure.text.TranslatableComponent} through the {@link GlobalTranslator} and
+ * serializing it with {@link PlainTextComponentSerializer}. Methods with a {@link Plural} parameter use the
+ * template of the suffixed key of their plural form, falling back as
+ * {@link io.github.namiuni.doburoku.standard.translation.PluralTranslator} does.</p>
+ *
+ * <p>The source and MiniMessage instance must match the translator registered with the
+ * {@link GlobalTranslator}, and the argument transformer the one configured for the arguments. Register
+ * the renderer as a {@link TranslationInvalidationListener} of reloadable sources to drop the templates
+ * of changed keys. This class is thread-safe.</p>
+ */
+@NullMarked
+public final class PlainTextRenderer implements TranslationInvalidationListener {
+
+    // Untranslated keys standing in for the arguments; slots are components, so no message text can forge one
+    private static final String SLOT_KEY_PREFIX = "doburoku.plain_text.slot.";
+    private static final int MAX_POOLED_CAPACITY = 8 * 1024;
+    // Mirrors the name the annotation processor reserves for the count of plural messages
+    private static final String PLURAL_SLOT_NAME = "doburoku_plural_count";
+
+    private static final PluralCategory[] CATEGORIES = PluralCategory.values();
+    private static final PlainTextComponentSerializer PLAIN = PlainTextComponentSerializer.plainText();
+    private static final ThreadLocal<PooledBuilder> BUILDERS = ThreadLocal.withInitial(PooledBuilder::new);
+
+    private final TranslationSource source;
+    private final MiniMessageArgumentTransformer transformer;
+    private final MiniMessage miniMessage;
+    private final Map<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+    private final ClassScopedCache<Method, List<String>> slotNames = new ClassScopedCache<>();
+    private final Map<Locale, PluralRule> rules = new ConcurrentHashMap<>();
+    private final Map<String, String[]> pluralKeys = new ConcurrentHashMap<>();
+
+    private PlainTextRenderer(
+            final TranslationSource source,
+            final MiniMessageArgumentTransformer transformer,
+            final MiniMessage miniMessage
+    ) {
+        this.source = source;
+        this.transformer = transformer;
+        this.miniMessage = miniMessage;
+    }
+
+    /**
+     * Creates a renderer using the default {@link MiniMessage} instance.
+     *
+     * @param source      the source the messages are looked up from
+     * @param transformer the transformer naming the arguments
+     * @return a new renderer
+     */
+    public static PlainTextRenderer of(final TranslationSource source, final MiniMessageArgumentTransformer transformer) {
+        return of(source, transformer, MiniMessage.miniMessage());
+    }
+
+    /**
+     * Creates a renderer.
+     *
+     * @param source      the source the messages are looked up from
+     * @param transformer the transformer naming the arguments
+     * @param miniMessage the MiniMessage instance used to parse messages
+     * @return a new renderer
+     */
+    public static PlainTextRenderer of(
+            final TranslationSource source,
+            final MiniMessageArgumentTransformer transformer,
+            final MiniMessage miniMessage
+    ) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(transformer, "transformer");
+        Objects.requireNonNull(miniMessage, "miniMessage");
+        return new PlainTextRenderer(source, transformer, miniMessage);
+    }
+
+    /**
+     * Renders an invocation to plain text.
+     *
+     * @param context   the invocation context
+     * @param key       the translation key
+     * @param arguments the rendered translation arguments
+     * @return the plain text, or {@code null} if the invocation has no {@link Locale} argument
+     */
+    public @Nullable String render(final InvocationContext context, final String key, final ComponentLike[] arguments) {
+        final Locale locale = locale(context);
+        if (locale == null) {
+            return null;
+        }
+
+        final Template template = this.template(context.method(), key, locale, pluralCount(arguments));
+        if (template == Template.MISSING) {
+            // Whatever the translator chain makes of keys this source does not know
+            return PLAIN.serialize(GlobalTranslator.render(Component.translatable(key, arguments), locale));
+        }
+
+        final PooledBuilder pooled = BUILDERS.get();
+        // Arguments may render messages of their own on this thread
+        final StringBuilder builder = pooled.busy ? new StringBuilder() : pooled.acquire();
+        try {
+            template.appendTo(builder, arguments, locale);
+            return builder.toString();
+        } finally {
+            if (builder == pooled.builder) {
+                pooled.release();
+            }
+        }
+    }
+
+    /**
+     * Checks whether invocations of the given {@code String} method are rendered to plain text, caching
+     * the names of its arguments if so.
+     *
+     * @param method the method returning {@code String}
+     * @return whether the method has a {@link Locale} parameter
+     */
+    boolean prepare(final Method method) {
+        if (Arrays.stream(method.getParameterTypes()).noneMatch(type -> type == Locale.class)) {
+            return false;
+        }
+        this.slotNames.get(method.getDeclaringClass(), method, this::resolveNames);
+        return true;
+    }
+
+    /**
+     * Returns the number of compiled templates.
+     *
+     * @return the number of templates
+     */
+    public int size() {
+        return this.templates.size();
+    }
+
+    @Override
+    public void invalidate(final Locale locale, final Set<String> keys) {
+        final boolean root = locale.equals(Locale.ROOT);
+        this.templates.keySet().removeIf(entry ->
+                keys.contains(entry.key()) && (root || entry.locale().getLanguage().equals(locale.getLanguage())));
+    }
+
+    // Plural messages select their form like PluralTranslator: the category, then other, then the unsuffixed key
+    private Template template(final Method method, final String key, final Locale locale, final @Nullable PluralCount count) {
+        final List<String> names = this.slotNames.get(method.getDeclaringClass(), method, this::resolveNames);
+        if (count != null) {
+            final PluralCategory category = this.rules.computeIfAbsent(locale, PluralRules::of).select(count.count());
+            final String[] keys = this.pluralKeys.computeIfAbsent(key, PlainTextRenderer::suffixedKeys);
+            final Template template = this.templates.computeIfAbsent(new TemplateKey(keys[category.ordinal()], locale, names), this::compile);
+            if (template != Template.MISSING) {
+                return template;
+            }
+            if (category != PluralCategory.OTHER) {
+                final TemplateKey otherKey = new TemplateKey(keys[PluralCategory.OTHER.ordinal()], locale, names);
+                final Template other = this.templates.computeIfAbsent(otherKey, this::compile);
+                if (other != Template.MISSING) {
+                    return other;
+                }
+            }
+        }
+        return this.templates.computeIfAbsent(new TemplateKey(key, locale, names), this::compile);
+    }
+
+    private static String[] suffixedKeys(final String key) {
+        final String[] keys = new String[CATEGORIES.length];
+        for (final PluralCategory category : CATEGORIES) {
+            keys[category.ordinal()] = key + "." + category.suffix();
+        }
+        return keys;
+    }
+
+    // Same order as the arguments: parameters, record components, plural count, then coalesced count
+    private List<String> resolveNames(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        final List<String> names = new ArrayList<>(parameters.length);
+        for (final Parameter parameter : parameters) {
+            names.add(this.transformer.resolveName(parameter));
+        }
+
+        for (final Parameter parameter : parameters) {
+            final Class<?> type = GenericTypeReflector.erase(parameter.getParameterizedType());
+            for (final RecordComponent component : TranslationArgumentRegistry.expandedComponents(type)) {
+                names.add(this.transformer.resolveName(parameter, component));
+            }
+        }
+
+        if (Arrays.stream(parameters).anyMatch(parameter -> parameter.isAnnotationPresent(Plural.class))) {
+            names.add(PLURAL_SLOT_NAME);
+        }
+
+        final Coalesce coalesce = method.getAnnotation(Coalesce.class);
+        if (coalesce != null && coalesce.mode() == Coalesce.Mode.COUNT) {
+            names.add(MessageCoalescer.COUNT_ARGUMENT);
+        }
+        return List.copyOf(names);
+    }
+
+    private Template compile(final TemplateKey templateKey) {
+        final String message = this.source.lookup(templateKey.key(), templateKey.locale());
+        if (message == null) {
+            return Template.MISSING;
+        }
+
+        final List<String> names = templateKey.names();
+        final List<TagResolver> resolvers = new ArrayList<>(names.size() + 1);
+        for (int i = 0; i < names.size(); i++) {
+            resolvers.add(TagResolver.resolver(names.get(i), Tag.selfClosingInserting(slot(i))));
+        }
+        resolvers.add(new PositionalResolver(names.size()));
+
+        final Component parsed = this.miniMessage.deserialize(message, TagResolver.resolver(resolvers));
+        return Template.flatten(GlobalTranslator.render(parsed, templateKey.locale()));
+    }
+
+    private static @Nullable PluralCount pluralCount(final ComponentLike[] arguments) {
+        for (final ComponentLike argument : arguments) {
+            if (argument instanceof final VirtualComponent virtual && virtual.renderer() instanceof final PluralCount count) {
+                return count;
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable Locale locale(final InvocationContext context) {
+        for (final InvocationContext.Argument<?> argument : context.arguments()) {
+            if (argument.value() instanceof final Locale locale) {
+                return locale;
+            }
+        }
+        return null;
+    }
+
+    private static Component slot(final int slot) {
+        return Component.translatable(SLOT_KEY_PREFIX + slot);
+    }
+
+    // The slot a component stands in for, or -1 if it is not a slot
+    private static int slotOf(final Component component) {
+        if (!(component instanceof final TranslatableComponent translatable) || !translatable.key().startsWith(SLOT_KEY_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Math.max(Integer.parseInt(translatable.key().substring(SLOT_KEY_PREFIX.length())), -1);
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void appendArgument(final StringBuilder builder, final ComponentLike argument, final Locale locale) {
+        Component component = argument.asComponent();
+        // Named MiniMessage arguments are virtual components that render to the actual value
+        if (component instanceof final VirtualComponent virtual && virtual.contextType() == Void.class) {
+            final ComponentLike rendered = ((VirtualComponentRenderer<@Nullable Void>) virtual.renderer()).apply(null);
+            if (rendered != null) {
+                component = rendered.asComponent();
+            }
+        }
+
+        if (component instanceof final TextComponent text && text.children().isEmpty()) {
+            builder.append(text.content());
+        } else {
+            PLAIN.serialize(builder, GlobalTranslator.render(component, locale));
+        }
+    }
+
+    private record TemplateKey(String key, Locale locale, List<String> names) {
+    }
+
+    /**
+     * Flattened template: {@code literals[i]} precedes the argument at {@code slots[i]}, and the last
+     * literal ends the text.
+     */
+    private record Template(String[] literals, int[] slots) {
+
+        static final Template MISSING = new Template(new String[0], new int[0]);
+
+        static Template flatten(final Component rendered) {
+            final List<String> literals = new ArrayList<>();
+            final List<Integer> slots = new ArrayList<>();
+            final StringBuilder literal = new StringBuilder();
+            flatten(rendered, literal, literals, slots);
+            literals.add(literal.toString());
+            return new Template(literals.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        // Same order as the plain text serializer: the component itself, then its children
+        private static void flatten(
+                final Component component,
+                final StringBuilder literal,
+                final List<String> literals,
+                final List<Integer> slots
+        ) {
+            final int slot = slotOf(component);
+            if (slot >= 0) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                slots.add(slot);
+                return;
+            }
+
+            final List<Component> children = component.children();
+            PLAIN.serialize(literal, children.isEmpty() ? component : component.children(List.of()));
+            for (final Component child : children) {
+                flatten(child, literal, literals, slots);
+            }
+        }
+
+        void appendTo(final StringBuilder builder, final ComponentLike[] arguments, final Locale locale) {
+            for (int i = 0; i < this.slots.length; i++) {
+                builder.append(this.literals[i]);
+                // The coalesced count is only appended to sent messages, never to plain text
+                if (this.slots[i] < arguments.length) {
+                    appendArgument(builder, arguments[this.slots[i]], locale);
+                }
+            }
+            builder.append(this.literals[this.slots.length]);
+        }
+    }
+
+    /**
+     * Resolves {@code <arg:N>} and {@code <argument:N>} like {@link net.kyori.adventure.text.minimessage.translation.MiniMessageTranslator}.
+     */
+    private record PositionalResolver(int slots) implements TagResolver {
+
+        @Override
+        public @Nullable Tag resolve(final String name, final ArgumentQueue arguments, final Context ctx) {
+            if (!this.has(name) || !arguments.hasNext()) {
+                return null;
+            }
+            final OptionalInt index = arguments.pop().asInt();
+            if (index.isEmpty() || index.getAsInt() < 0 || index.getAsInt() >= this.slots) {
+                return null;
+            }
+            return Tag.selfClosingInserting(slot(index.getAsInt()));
+        }
+
+        @Override
+        public boolean has(final String name) {
+            return name.equals("arg") || name.equals("argument");
+        }
+    }
+
+    private static final class PooledBuilder {
+
+        private StringBuilder builder = new StringBuilder(256);
+        private boolean busy;
+
+        StringBuilder acquire() {
+            this.busy = true;
+            return this.builder;
+        }
+
+        void release() {
+            if (this.builder.capacity() > MAX_POOLED_CAPACITY) {
+                this.builder = new StringBuilder(256);
+            } else {
+                this.builder.setLength(0);
+            }
+            this.busy = false;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import java.util.Locale;
+import net.kyori.adventure.text.TranslatableComponent;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Handle to a translated message whose serialized form is fetched per locale.
+ *
+ * <p>Serialized strings are shared through the {@link SerializedMessageCache} that created the handle, so
+ * sending the same message again, with the same arguments and to the same locale, does not render or
+ * serialize anything.</p>
+ */
+@NullMarked
+public final class SerializedMessage {
+
+    private final TranslatableComponent component;
+    private final SerializedMessageCache cache;
+    // Named MiniMessage arguments compare by identity, so messages are compared by their argument values
+    private final MessageFingerprint fingerprint;
+
+    SerializedMessage(final TranslatableComponent component, final SerializedMessageCache cache) {
+        this.component = component;
+        this.cache = cache;
+        this.fingerprint = MessageFingerprint.of(component);
+    }
+
+    /**
+     * Returns the untranslated component.
+     *
+     * @return the translatable component built for the invocation
+     */
+    public TranslatableComponent component() {
+        return this.component;
+    }
+
+    /**
+     * Returns the message rendered for a locale and serialized as JSON.
+     *
+     * @param locale the locale to render for
+     * @return the JSON string
+     */
+    public String json(final Locale locale) {
+        return this.serialized(locale, Format.JSON);
+    }
+
+    /**
+     * Returns the message rendered for a locale and serialized with section sign legacy codes.
+     *
+     * @param locale the locale to render for
+     * @return the legacy string
+     */
+    public String legacy(final Locale locale) {
+        return this.serialized(locale, Format.LEGACY_SECTION);
+    }
+
+    /**
+     * Returns the message rendered for a locale and serialized in the given format.
+     *
+     * @param locale the locale to render for
+     * @param format the serialization format
+     * @return the serialized string
+     */
+    public String serialized(final Locale locale, final Format format) {
+        return this.cache.serialized(this, locale, format);
+    }
+
+    MessageFingerprint fingerprint() {
+        return this.fingerprint;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+        return other instanceof final SerializedMessage that
+                && this.fingerprint.equals(that.fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.fingerprint.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SerializedMessage[" + this.component.key() + "]";
+    }
+
+    /**
+     * Serialization formats.
+     */
+    public enum Format {
+        /**
+         * JSON, as written by {@code GsonComponentSerializer}.
+         */
+        JSON,
+        /**
+         * Legacy text with section sign codes, as written by {@code LegacyComponentSerializer.legacySection()}.
+         */
+        LEGACY_SECTION,
+        /**
+         * Legacy text with ampersand codes, as written by {@code LegacyComponentSerializer.legacyAmpersand()}.
+         */
+        LEGACY_AMPERSAND
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import io.github.namiuni.doburoku.annotation.PluralCategory;
+import io.github.namiuni.doburoku.standard.translation.TranslationInvalidationListener;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded cache of serialized messages, keyed by message, locale and format.
+ *
+ * <p>The component of a {@link SerializedMessage} holds the translation key and the rendered arguments, so
+ * it identifies the invocation. Messages are compared by their key and argument values, unwrapping named
+ * MiniMessage arguments, which compare by identity. Entries are spread over independently locked stripes,
+ * each evicting its least recently used entry once it is full. Register the cache as a
+ * {@link TranslationInvalidationListener} of reloadable sources to drop the entries of changed keys,
+ * including the line and plural form keys of a message; a change in one locale also drops the entries of
+ * locales that fall back to it. This class is thread-safe.</p>
+ */
+@NullMarked
+public final class SerializedMessageCache implements TranslationInvalidationListener {
+
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final BiFunction<Component, Locale, Component> renderer;
+
+    private SerializedMessageCache(final int maximumSize, final BiFunction<Component, Locale, Component> renderer) {
+        final int stripeSize = Math.max(1, (maximumSize + STRIPES - 1) / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new Stripe(stripeSize);
+        }
+        this.renderer = renderer;
+    }
+
+    /**
+     * Creates a cache that renders through the {@link GlobalTranslator}.
+     *
+     * @param maximumSize the approximate maximum number of cached strings
+     * @return the cache
+     */
+    public static SerializedMessageCache create(final int maximumSize) {
+        return create(maximumSize, GlobalTranslator::render);
+    }
+
+    /**
+     * Creates a cache with a custom renderer.
+     *
+     * @param maximumSize the approximate maximum number of cached strings
+     * @param renderer    renders a component for a locale before it is serialized
+     * @return the cache
+     */
+    public static SerializedMessageCache create(final int maximumSize, final BiFunction<Component, Locale, Component> renderer) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        return new SerializedMessageCache(maximumSize, Objects.requireNonNull(renderer, "renderer"));
+    }
+
+    /**
+     * Returns a transformer that wraps the components of invocations in {@link SerializedMessage} handles
+     * backed by this cache.
+     *
+     * @return the transformer
+     */
+    public TranslatableComponentTransformer<SerializedMessage> transformer() {
+        return (method, component) -> new SerializedMessage(component, this);
+    }
+
+    /**
+     * Returns the number of cached strings.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (final Stripe stripe : this.stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes every cached string.
+     */
+    public void clear() {
+        for (final Stripe stripe : this.stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.entries.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(final Locale locale, final Set<String> keys) {
+        final boolean root = locale.equals(Locale.ROOT);
+        final Set<String> messageKeys = messageKeys(keys);
+        for (final Stripe stripe : this.stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.entries.keySet().removeIf(entry ->
+                        messageKeys.contains(entry.message.component().key())
+                                && (root || entry.locale.getLanguage().equals(locale.getLanguage())));
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    // Line keys (key.1) and plural forms (key.one) belong to the message of their base key
+    private static Set<String> messageKeys(final Set<String> keys) {
+        final Set<String> messageKeys = new HashSet<>(keys);
+        for (final String key : keys) {
+            final int separator = key.lastIndexOf('.');
+            if (separator <= 0) {
+                continue;
+            }
+            final String suffix = key.substring(separator + 1);
+            if (isLineNumber(suffix) || PluralCategory.fromSuffix(suffix) != null) {
+                messageKeys.add(key.substring(0, separator));
+            }
+        }
+        return messageKeys;
+    }
+
+    private static boolean isLineNumber(final String suffix) {
+        if (suffix.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (!Character.isDigit(suffix.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String serialized(final SerializedMessage message, final Locale locale, final SerializedMessage.Format format) {
+        final CacheKey key = new CacheKey(message, locale, format);
+        final Stripe stripe = this.stripes[(key.hash ^ (key.hash >>> 16)) & (STRIPES - 1)];
+
+        stripe.lock.lock();
+        try {
+            final String cached = stripe.entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        // Rendered outside the lock; concurrent misses may serialize twice but store the same string
+        final String serialized = serialize(this.renderer.apply(message.component(), locale), format);
+        stripe.lock.lock();
+        try {
+            stripe.entries.put(key, serialized);
+        } finally {
+            stripe.lock.unlock();
+        }
+        return serialized;
+    }
+
+    private static String serialize(final Component component, final SerializedMessage.Format format) {
+        return switch (format) {
+            case JSON -> GsonComponentSerializer.gson().serialize(component);
+            case LEGACY_SECTION -> LegacyComponentSerializer.legacySection().serialize(component);
+            case LEGACY_AMPERSAND -> LegacyComponentSerializer.legacyAmpersand().serialize(component);
+        };
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<CacheKey, String> entries;
+
+        private Stripe(final int capacity) {
+            this.entries = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<CacheKey, String> eldest) {
+                    return this.size() > capacity;
+                }
+            };
+        }
+    }
+
+    private static final class CacheKey {
+
+        private final SerializedMessage message;
+        private final Locale locale;
+        private final SerializedMessage.Format format;
+        private final int hash;
+
+        private CacheKey(final SerializedMessage message, final Locale locale, final SerializedMessage.Format format) {
+            this.message = message;
+            this.locale = locale;
+            this.format = format;
+            this.hash = (message.hashCode() * 31 + locale.hashCode()) * 31 + format.ordinal();
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object other) {
+            return other instanceof final CacheKey that
+                    && this.hash == that.hash
+                    && this.format == that.format
+                    && this.locale.equals(that.locale)
+                    && this.message.equals(that.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -45,4 +45,14 @@ public interface TranslatableComponentTransformer<R> {
      * @return the transformed result
      */
     R transform(Method method, TranslatableComponent component);
+
+    /**
+     * Checks ahead of the first invocation that results can be produced for the given method, warming
+     * any per-method caches on the way.
+     *
+     * @param method the method to prepare
+     * @throws RuntimeException if the method is misconfigured for this transformer
+     */
+    default void prepare(final Method method) {
+    }
 }
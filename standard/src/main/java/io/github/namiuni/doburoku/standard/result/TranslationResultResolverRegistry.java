@@ -23,17 +23,28 @@
  */
 package io.github.namiuni.doburoku.standard.result;
 
+import io.github.namiuni.doburoku.annotation.annotations.Lines;
+import io.github.namiuni.doburoku.annotation.annotations.Plural;
 import io.github.namiuni.doburoku.api.invocation.InvocationContext;
 import io.github.namiuni.doburoku.api.result.TranslationResultResolver;
+import io.github.namiuni.doburoku.internal.ClassScopedCache;
+import io.github.namiuni.doburoku.standard.translation.PluralCount;
+import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.ComponentLike;
 import net.kyori.adventure.text.TranslatableComponent;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Thread-safe implementation of {@link TranslationResultResolver}.
@@ -42,12 +53,20 @@ import org.jspecify.annotations.NullMarked;
  * registered {@link TranslatableComponentTransformer} based on the method's return type.
  * This class is not thread-safe.</p>
  *
+ * <p>Methods with a {@link Plural} parameter get its raw count appended as a {@link PluralCount}
+ * argument, which {@link io.github.namiuni.doburoku.standard.translation.PluralTranslator} uses to select
+ * the plural form.</p>
+ *
  * <p>This type is internal and may change without notice.</p>
  */
 @NullMarked
 public final class TranslationResultResolverRegistry implements TranslationResultResolver {
 
     private final Map<Type, TranslatableComponentTransformer<?>> transformers = new ConcurrentHashMap<>();
+    private final ClassScopedCache<Method, LineKeys> lineKeys = new ClassScopedCache<>();
+    private final ClassScopedCache<Method, Integer> pluralIndices = new ClassScopedCache<>();
+    private volatile @Nullable PlainTextRenderer plainText;
+    private volatile boolean compacting;
 
     /**
      * Creates a new instance.
@@ -61,7 +80,7 @@ public final class TranslationResultResolverRegistry implements TranslationResul
      *
      * @param context the invocation context
      * @param key the translation key
-     * @param arguments the rendered translation arguments
+     * @param renderedArguments the rendered translation arguments
      * @param <R> the method's return type
      * @return the resolved result
      * @throws IllegalStateException if no transformer exists and the method does not return {@link TranslatableComponent}
@@ -71,24 +90,115 @@ public final class TranslationResultResolverRegistry implements TranslationResul
     public <R> R resolve(
             final InvocationContext context,
             final String key,
-            final ComponentLike[] arguments
+            final ComponentLike[] renderedArguments
     ) {
         final Method method = context.method();
-        final TranslatableComponent result = Component.translatable(key, arguments);
-        final Type type = method.getGenericReturnType();
+        final ComponentLike[] arguments = this.withPluralCount(context, renderedArguments);
+        final PlainTextRenderer renderer = this.plainText;
+        final Type type = context.resultType();
+        if (renderer != null && type == String.class) {
+            final String text = renderer.render(context, key, arguments);
+            if (text != null) {
+                return (R) text;
+            }
+        }
+
+        final List<String> lineKeys = this.lineKeys(method, type, key);
+        if (lineKeys != null) {
+            return (R) this.lines(lineKeys, arguments);
+        }
+
+        final TranslatableComponent translatable = Component.translatable(key, arguments);
+        final TranslatableComponent result = this.compacting ? ComponentCompactor.compactArguments(translatable) : translatable;
         final TranslatableComponentTransformer<R> transformer = (TranslatableComponentTransformer<R>) this.transformers.get(type);
 
         if (transformer != null) {
             return transformer.transform(method, result);
         }
 
-        if (method.getReturnType().isAssignableFrom(TranslatableComponent.class)) {
+        if (GenericTypeReflector.erase(type).isAssignableFrom(TranslatableComponent.class)) {
             return (R) result;
         }
 
         throw new IllegalStateException("No result handler found for return type: %s".formatted(type));
     }
 
+    /**
+     * Lets methods return {@link SerializedMessage} handles whose serialized output is shared through the
+     * given cache.
+     *
+     * @param cache the cache holding the serialized strings
+     * @return this registry for chaining
+     */
+    public TranslationResultResolverRegistry serialized(final SerializedMessageCache cache) {
+        return this.plus(SerializedMessage.class, cache.transformer());
+    }
+
+    /**
+     * Lets methods returning {@link String} with a {@link java.util.Locale} parameter render straight to
+     * plain text, skipping the component tree of the message.
+     *
+     * @param renderer the renderer producing the text
+     * @return this registry for chaining
+     */
+    public TranslationResultResolverRegistry plainText(final PlainTextRenderer renderer) {
+        this.plainText = Objects.requireNonNull(renderer, "renderer");
+        return this;
+    }
+
+    /**
+     * Compacts the arguments of every translatable component before it is transformed, dropping the
+     * redundant structure of rendered arguments such as empty text nodes.
+     *
+     * <p>Arguments wrapped into virtual components, such as the named arguments of
+     * {@link io.github.namiuni.doburoku.standard.argument.MiniMessageArgumentTransformer}, are left untouched;
+     * wrap their transformer with {@link ComponentCompactor#compactingArguments} to compact them.</p>
+     *
+     * @return this registry for chaining
+     * @see ComponentCompactor
+     */
+    public TranslationResultResolverRegistry compacting() {
+        this.compacting = true;
+        return this;
+    }
+
+    @Override
+    public boolean resolves(final Type resultType) {
+        return this.transformers.containsKey(resultType);
+    }
+
+    /**
+     * Checks that results can be produced for the given method: the line count and return type of
+     * {@link Lines} methods, and otherwise a transformer for the result type or a result type
+     * {@link TranslatableComponent} can be assigned to.
+     *
+     * @param context a representative invocation of the method
+     * @param key     the translation key of the method
+     * @throws IllegalStateException if no result can be produced for the method
+     */
+    @Override
+    public void prepare(final InvocationContext context, final String key) {
+        final Method method = context.method();
+        final Type type = context.resultType();
+        this.pluralIndices.get(method.getDeclaringClass(), method, TranslationResultResolverRegistry::pluralIndex);
+
+        if (this.lineKeys(method, type, key) != null) {
+            return;
+        }
+
+        final PlainTextRenderer renderer = this.plainText;
+        if (renderer != null && type == String.class && renderer.prepare(method)) {
+            return;
+        }
+
+        final TranslatableComponentTransformer<?> transformer = this.transformers.get(type);
+        if (transformer != null) {
+            transformer.prepare(method);
+        } else if (!GenericTypeReflector.erase(type).isAssignableFrom(TranslatableComponent.class)) {
+            throw new IllegalStateException("No result handler found for return type: %s".formatted(type));
+        }
+    }
+
     /**
      * Registers a transformer for a return type.
      *
@@ -125,4 +235,94 @@ public final class TranslationResultResolverRegistry implements TranslationResul
     public <T> TranslationResultResolverRegistry plus(final TypeToken<T> type, final TranslatableComponentTransformer<T> transformer) {
         return this.plus(type.getType(), transformer);
     }
+
+    private ComponentLike[] withPluralCount(final InvocationContext context, final ComponentLike[] arguments) {
+        final Method method = context.method();
+        final int index = this.pluralIndices.get(method.getDeclaringClass(), method, TranslationResultResolverRegistry::pluralIndex);
+        if (index < 0) {
+            return arguments;
+        }
+
+        // Appended after the rendered arguments so that positional arguments keep their index
+        final ComponentLike[] withCount = Arrays.copyOf(arguments, arguments.length + 1);
+        withCount[arguments.length] = context.arguments()[index].value() instanceof final Number count
+                ? PluralCount.argument(count.longValue())
+                : Component.empty();
+        return withCount;
+    }
+
+    private static int pluralIndex(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(Plural.class)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // The return type is checked once, when the keys of the method are first cached
+    private @Nullable List<String> lineKeys(final Method method, final Type type, final String key) {
+        final LineKeys cached = this.lineKeys.get(method.getDeclaringClass(), method, it -> {
+            final LineKeys keys = LineKeys.of(it, key);
+            if (keys != LineKeys.NONE) {
+                checkLines(it, type);
+            }
+            return keys;
+        });
+        if (cached == LineKeys.NONE) {
+            return null;
+        }
+        // Keys resolved from arguments differ between calls
+        return cached.key().equals(key) ? cached.keys() : LineKeys.of(method, key).keys();
+    }
+
+    private List<TranslatableComponent> lines(final List<String> lineKeys, final ComponentLike[] arguments) {
+        // Every line shares the arguments rendered once for the invocation
+        final TranslatableComponent[] lines = new TranslatableComponent[lineKeys.size()];
+        for (int i = 0; i < lines.length; i++) {
+            final TranslatableComponent line = Component.translatable(lineKeys.get(i), arguments);
+            lines[i] = this.compacting ? ComponentCompactor.compactArguments(line) : line;
+        }
+        return List.of(lines);
+    }
+
+    private static void checkLines(final Method method, final Type type) {
+        if (!GenericTypeReflector.erase(type).isAssignableFrom(List.class)) {
+            throw new IllegalStateException("@Lines method must return List<Component>: %s".formatted(method));
+        }
+
+        // Raw lists have no element type to check
+        Type elementType = GenericTypeReflector.getTypeParameter(type, Iterable.class.getTypeParameters()[0]);
+        if (elementType instanceof final WildcardType wildcard) {
+            elementType = wildcard.getUpperBounds()[0];
+        }
+        if (elementType != null && !GenericTypeReflector.erase(elementType).isAssignableFrom(Component.class)) {
+            throw new IllegalStateException("@Lines method must return List<Component>: %s".formatted(method));
+        }
+    }
+
+    /**
+     * Keys of the lines of a {@link Lines} method.
+     */
+    private record LineKeys(String key, List<String> keys) {
+
+        static final LineKeys NONE = new LineKeys("", List.of());
+
+        static LineKeys of(final Method method, final String key) {
+            final Lines lines = method.getAnnotation(Lines.class);
+            if (lines == null) {
+                return NONE;
+            }
+            if (lines.value() <= 0) {
+                throw new IllegalStateException("@Lines needs a positive number of lines: %s".formatted(method));
+            }
+
+            final String[] keys = new String[lines.value()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = key + "." + (i + 1);
+            }
+            return new LineKeys(key, List.of(keys));
+        }
+    }
 }
@@ -0,0 +1,255 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import io.github.namiuni.doburoku.annotation.BinaryBundleFormat;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import static io.github.namiuni.doburoku.annotation.BinaryBundleFormat.ABSENT;
+import static io.github.namiuni.doburoku.annotation.BinaryBundleFormat.HEADER_INTS;
+import static io.github.namiuni.doburoku.annotation.BinaryBundleFormat.MAGIC;
+import static io.github.namiuni.doburoku.annotation.BinaryBundleFormat.VERSION;
+
+/**
+ * Translation source backed by a binary bundle generated by the annotation processor
+ * (option {@code doburoku.binaryBundle=true}).
+ *
+ * <p>The bundle holds every locale of one base name: a table of distinct UTF-8 strings, the keys sorted
+ * by their UTF-8 bytes, and per-locale value indices. It is read in place through absolute
+ * {@link ByteBuffer} accessors, memory-mapped when the bundle is a plain file. Keys are found by binary
+ * search and strings are only decoded on their first lookup, so heap usage grows with the keys that are
+ * actually used. This class is thread-safe.</p>
+ */
+@NullMarked
+public final class BinaryTranslationSource implements TranslationSource {
+
+    /**
+     * File extension of binary bundles.
+     */
+    public static final String EXTENSION = BinaryBundleFormat.EXTENSION;
+
+    private static final int HEADER_BYTES = HEADER_INTS * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final Map<Locale, Integer> locales;
+    private final int keyCount;
+    private final int keysOffset;
+    private final int valuesOffset;
+    private final int stringOffsetsOffset;
+    private final int dataOffset;
+
+    private final Map<String, Integer> keyIndices = new ConcurrentHashMap<>();
+    private final Map<Integer, String> strings = new ConcurrentHashMap<>();
+
+    private BinaryTranslationSource(final ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a binary bundle");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary bundle version: " + buffer.getInt(Integer.BYTES));
+        }
+
+        this.buffer = buffer;
+        final int localeCount = buffer.getInt(2 * Integer.BYTES);
+        this.keyCount = buffer.getInt(3 * Integer.BYTES);
+        final int stringCount = buffer.getInt(4 * Integer.BYTES);
+
+        final int localesOffset = HEADER_BYTES;
+        this.keysOffset = localesOffset + localeCount * Integer.BYTES;
+        this.valuesOffset = this.keysOffset + this.keyCount * Integer.BYTES;
+        this.stringOffsetsOffset = this.valuesOffset + localeCount * this.keyCount * Integer.BYTES;
+        this.dataOffset = this.stringOffsetsOffset + (stringCount + 1) * Integer.BYTES;
+
+        final Map<Locale, Integer> localeIndices = new HashMap<>();
+        for (int i = 0; i < localeCount; i++) {
+            localeIndices.put(Bundles.parseLocale(this.string(buffer.getInt(localesOffset + i * Integer.BYTES))), i);
+        }
+        this.locales = Collections.unmodifiableMap(localeIndices);
+    }
+
+    /**
+     * Memory-maps a binary bundle file.
+     *
+     * @param path the bundle file
+     * @return a new source reading directly from the mapped file
+     * @throws IOException if the file cannot be mapped
+     * @throws IllegalArgumentException if the file is not a supported binary bundle
+     */
+    public static BinaryTranslationSource map(final Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new BinaryTranslationSource(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Loads the binary bundle for a base name from a class loader.
+     *
+     * <p>Bundles on the file system (e.g. exploded class directories) are memory-mapped; bundles inside
+     * archives are read into a single heap buffer.</p>
+     *
+     * @param loader   the class loader that owns the bundle
+     * @param baseName the bundle base name, as declared by {@code @ResourceBundle}
+     * @return a new source
+     * @throws IOException if the bundle cannot be found or read
+     * @throws IllegalArgumentException if the resource is not a supported binary bundle
+     */
+    public static BinaryTranslationSource load(final ClassLoader loader, final String baseName) throws IOException {
+        Objects.requireNonNull(loader, "loader");
+        Objects.requireNonNull(baseName, "baseName");
+
+        final String resource = baseName + EXTENSION;
+        final URL url = loader.getResource(resource);
+        if (url == null) {
+            throw new FileNotFoundException("Binary bundle not found: " + resource);
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return map(Path.of(url.toURI()));
+            } catch (final URISyntaxException exception) {
+                throw new IOException("Invalid bundle location: " + url, exception);
+            }
+        }
+
+        try (InputStream stream = url.openStream()) {
+            return of(ByteBuffer.wrap(stream.readAllBytes()));
+        }
+    }
+
+    /**
+     * Creates a source reading from the given buffer.
+     *
+     * <p>The buffer is read with absolute accessors only and must not be modified afterward.</p>
+     *
+     * @param buffer the encoded bundle
+     * @return a new source
+     * @throws IllegalArgumentException if the buffer is not a supported binary bundle
+     */
+    public static BinaryTranslationSource of(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer");
+        return new BinaryTranslationSource(buffer);
+    }
+
+    /**
+     * The locales contained in this bundle.
+     *
+     * @return the locales
+     */
+    public Set<Locale> locales() {
+        return this.locales.keySet();
+    }
+
+    @Override
+    public @Nullable String message(final String key, final Locale locale) {
+        final Integer localeIndex = this.locales.get(locale);
+        if (localeIndex == null) {
+            return null;
+        }
+
+        final int keyIndex = this.keyIndex(key);
+        if (keyIndex == ABSENT) {
+            return null;
+        }
+
+        final int valueIndex = this.buffer.getInt(this.valuesOffset + (localeIndex * this.keyCount + keyIndex) * Integer.BYTES);
+        return valueIndex == ABSENT ? null : this.string(valueIndex);
+    }
+
+    private int keyIndex(final String key) {
+        final Integer cached = this.keyIndices.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Misses are not cached, so lookups of arbitrary keys cannot grow the map beyond the bundle's keys
+        final int keyIndex = this.findKey(key);
+        if (keyIndex != ABSENT) {
+            this.keyIndices.put(key, keyIndex);
+        }
+        return keyIndex;
+    }
+
+    private int findKey(final String key) {
+        final byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = this.keyCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = this.compare(this.buffer.getInt(this.keysOffset + middle * Integer.BYTES), bytes);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return ABSENT;
+    }
+
+    private int compare(final int stringIndex, final byte[] bytes) {
+        final int start = this.stringStart(stringIndex);
+        final int length = this.stringStart(stringIndex + 1) - start;
+        final int common = Math.min(length, bytes.length);
+        for (int i = 0; i < common; i++) {
+            final int comparison = Integer.compare(this.buffer.get(start + i) & 0xFF, bytes[i] & 0xFF);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(length, bytes.length);
+    }
+
+    private String string(final int stringIndex) {
+        return this.strings.computeIfAbsent(stringIndex, index -> {
+            final int start = this.stringStart(index);
+            final byte[] bytes = new byte[this.stringStart(index + 1) - start];
+            this.buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        });
+    }
+
+    private int stringStart(final int stringIndex) {
+        return this.dataOffset + this.buffer.getInt(this.stringOffsetsOffset + stringIndex * Integer.BYTES);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import io.github.namiuni.doburoku.annotation.Locales;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Naming and parsing helpers for the bundle files written by the annotation processor.
+ */
+@NullMarked
+final class Bundles {
+
+    static final String PROPERTIES_EXTENSION = ".properties";
+
+    private static final String LOCALE_SEPARATOR = "_";
+
+    private Bundles() {
+    }
+
+    /**
+     * Parses a locale tag as used in bundle file names ({@code ""}, {@code en} or {@code en_US}).
+     *
+     * @param tag the locale tag
+     * @return the locale
+     */
+    static Locale parseLocale(final String tag) {
+        if (tag.isEmpty()) {
+            return Locale.ROOT;
+        }
+
+        final String[] parts = tag.split(LOCALE_SEPARATOR, 3);
+        return switch (parts.length) {
+            case 1 -> Locale.of(parts[0]);
+            case 2 -> Locale.of(parts[0], parts[1]);
+            default -> Locale.of(parts[0], parts[1], parts[2]);
+        };
+    }
+
+    /**
+     * Returns the file name of the properties bundle of a base name and locale.
+     *
+     * @param baseName the base name
+     * @param locale   the locale
+     * @return the file name, e.g. {@code messages_en_US.properties}
+     */
+    static String propertiesFileName(final String baseName, final Locale locale) {
+        return fileName(baseName, locale, PROPERTIES_EXTENSION);
+    }
+
+    /**
+     * Returns the file name of a bundle of a base name and locale.
+     *
+     * @param baseName  the base name
+     * @param locale    the locale
+     * @param extension the file extension including the leading dot
+     * @return the file name, e.g. {@code messages_en_US.components.json}
+     */
+    static String fileName(final String baseName, final Locale locale, final String extension) {
+        return locale.equals(Locale.ROOT)
+                ? baseName + extension
+                : baseName + LOCALE_SEPARATOR + locale + extension;
+    }
+
+    /**
+     * Returns the locales a lookup falls back through, most specific first, as
+     * {@link TranslationSource#lookup(String, Locale)} does.
+     *
+     * @param locale the requested locale
+     * @return the locale, its language and country, its language and {@link Locale#ROOT}, without duplicates
+     */
+    static List<Locale> fallbacks(final Locale locale) {
+        final Locales known = Locales.fromLocale(locale);
+        if (known != null) {
+            return known.fallbackChain();
+        }
+
+        final List<Locale> fallbacks = new ArrayList<>(4);
+        fallbacks.add(locale);
+        if (!locale.getVariant().isEmpty() && !locale.getCountry().isEmpty()) {
+            fallbacks.add(Locale.of(locale.getLanguage(), locale.getCountry()));
+        }
+        if (!locale.getCountry().isEmpty() || !locale.getVariant().isEmpty()) {
+            fallbacks.add(Locale.of(locale.getLanguage()));
+        }
+        if (!locale.equals(Locale.ROOT)) {
+            fallbacks.add(Locale.ROOT);
+        }
+        return fallbacks;
+    }
+
+    /**
+     * Returns the locale of a properties bundle file.
+     *
+     * @param fileName the file name
+     * @param baseName the base name
+     * @return the locale, or {@code null} if the file is not a properties bundle of the base name
+     */
+    static @Nullable Locale propertiesLocale(final String fileName, final String baseName) {
+        if (!fileName.startsWith(baseName) || !fileName.endsWith(PROPERTIES_EXTENSION)) {
+            return null;
+        }
+
+        final String suffix = fileName.substring(baseName.length(), fileName.length() - PROPERTIES_EXTENSION.length());
+        if (suffix.isEmpty()) {
+            return Locale.ROOT;
+        }
+        if (!suffix.startsWith(LOCALE_SEPARATOR) || suffix.length() == 1) {
+            return null;
+        }
+        return parseLocale(suffix.substring(1));
+    }
+
+    /**
+     * Reads a UTF-8 encoded properties bundle.
+     *
+     * <p>Keys and messages are interned, so every locale and every reload shares one instance of each
+     * distinct string, while strings that are no longer referenced can still be collected.</p>
+     *
+     * @param stream the stream to read, which is not closed
+     * @return the entries
+     * @throws IOException if the stream cannot be read
+     */
+    static Map<String, String> readProperties(final InputStream stream) throws IOException {
+        final Properties properties = new Properties();
+        final Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+        properties.load(reader);
+
+        final Map<String, String> entries = new HashMap<>(properties.size() * 4 / 3 + 1);
+        for (final String key : properties.stringPropertyNames()) {
+            entries.put(key.intern(), properties.getProperty(key).intern());
+        }
+        return entries;
+    }
+}
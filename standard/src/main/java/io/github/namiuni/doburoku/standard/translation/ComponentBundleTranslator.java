@@ -0,0 +1,265 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.VirtualComponent;
+import net.kyori.adventure.text.VirtualComponentRenderer;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.translation.Translator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translator backed by the component bundles generated by the annotation processor
+ * (option {@code doburoku.componentBundle=true}).
+ *
+ * <p>The processor validates every MiniMessage template at compile time and stores the parsed component
+ * tree, so this translator never parses MiniMessage. Placeholders are slots, translatable components with
+ * the key {@code doburoku.slot.<index>}, which are replaced by the translation argument at that index,
+ * or by an empty component if there is no such argument. Slots are also replaced inside {@code show_text}
+ * and {@code show_entity} hover events and inside the arguments of translatable components. Click event
+ * values are plain strings that MiniMessage never fills, so they hold no slots.</p>
+ *
+ * <p>The bundles of a locale are loaded on its first translation and merged with their fallbacks, so a
+ * translation is a single map lookup. This class is thread-safe.</p>
+ */
+@NullMarked
+public final class ComponentBundleTranslator implements Translator {
+
+    /**
+     * File extension of component bundles.
+     */
+    public static final String EXTENSION = ".components.json";
+
+    private static final String SLOT_PREFIX = "doburoku.slot.";
+
+    private final Key name;
+    private final ClassLoader loader;
+    private final String baseName;
+    private final Map<Locale, Map<String, Component>> bundles = new ConcurrentHashMap<>();
+    private final Map<Locale, Map<String, Component>> resolved = new ConcurrentHashMap<>();
+
+    private ComponentBundleTranslator(final Key name, final ClassLoader loader, final String baseName) {
+        this.name = name;
+        this.loader = loader;
+        this.baseName = baseName;
+    }
+
+    /**
+     * Creates a translator for the component bundles of a base name.
+     *
+     * @param name     the translator name
+     * @param loader   the class loader providing the bundle resources
+     * @param baseName the base name declared by {@code @ResourceBundle}
+     * @return the translator
+     */
+    public static ComponentBundleTranslator of(final Key name, final ClassLoader loader, final String baseName) {
+        return new ComponentBundleTranslator(
+                Objects.requireNonNull(name, "name"),
+                Objects.requireNonNull(loader, "loader"),
+                Objects.requireNonNull(baseName, "baseName"));
+    }
+
+    @Override
+    public Key name() {
+        return this.name;
+    }
+
+    @Override
+    public @Nullable MessageFormat translate(final String key, final Locale locale) {
+        return null;
+    }
+
+    @Override
+    public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+        final Component template = this.template(component.key(), locale);
+        if (template == null) {
+            return null;
+        }
+
+        final Component result = fill(template, component.arguments());
+        if (component.children().isEmpty()) {
+            return result;
+        }
+
+        final List<Component> children = new ArrayList<>(result.children());
+        children.addAll(component.children());
+        return result.children(children);
+    }
+
+    /**
+     * Returns the parsed template of a key, falling back through the parents of the locale.
+     *
+     * @param key    the translation key
+     * @param locale the locale
+     * @return the template with unfilled slots, or {@code null} if there is none
+     */
+    public @Nullable Component template(final String key, final Locale locale) {
+        return this.resolved.computeIfAbsent(locale, this::resolve).get(key);
+    }
+
+    private Map<String, Component> resolve(final Locale locale) {
+        final List<Locale> fallbacks = Bundles.fallbacks(locale);
+        final Map<String, Component> templates = new HashMap<>();
+        // Least specific first, so more specific bundles override their parents
+        for (int i = fallbacks.size() - 1; i >= 0; i--) {
+            templates.putAll(this.bundles.computeIfAbsent(fallbacks.get(i), this::load));
+        }
+        return Map.copyOf(templates);
+    }
+
+    private Map<String, Component> load(final Locale locale) {
+        final String fileName = Bundles.fileName(this.baseName, locale, EXTENSION);
+        try (InputStream stream = this.loader.getResourceAsStream(fileName)) {
+            if (stream == null) {
+                return Map.of();
+            }
+
+            final JsonElement root = JsonParser.parseReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            final GsonComponentSerializer serializer = GsonComponentSerializer.gson();
+            final Map<String, Component> templates = new HashMap<>();
+            for (final Map.Entry<String, JsonElement> entry : root.getAsJsonObject().entrySet()) {
+                templates.put(entry.getKey(), serializer.deserializeFromTree(entry.getValue()));
+            }
+            return Map.copyOf(templates);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to load component bundle: " + fileName, e);
+        } catch (final JsonParseException | IllegalStateException e) {
+            throw new IllegalStateException("Malformed component bundle: " + fileName, e);
+        }
+    }
+
+    private static Component fill(final Component template, final List<TranslationArgument> arguments) {
+        if (template instanceof final TranslatableComponent slot && slot.key().startsWith(SLOT_PREFIX)) {
+            final int index = Integer.parseInt(slot.key(), SLOT_PREFIX.length(), slot.key().length(), 10);
+            if (index >= arguments.size()) {
+                // Like a MiniMessage placeholder without a value
+                return Component.empty();
+            }
+            return argument(arguments.get(index)).applyFallbackStyle(fill(slot.style(), arguments));
+        }
+
+        Component filledTemplate = template;
+        final Style style = fill(template.style(), arguments);
+        if (style != template.style()) {
+            filledTemplate = filledTemplate.style(style);
+        }
+        if (template instanceof final TranslatableComponent translatable && !translatable.arguments().isEmpty()) {
+            final List<TranslationArgument> translatableArguments = fill(translatable.arguments(), arguments);
+            if (translatableArguments != translatable.arguments()) {
+                filledTemplate = ((TranslatableComponent) filledTemplate).arguments(translatableArguments);
+            }
+        }
+
+        final List<Component> children = filledTemplate.children();
+        List<Component> filled = null;
+        for (int i = 0; i < children.size(); i++) {
+            final Component child = children.get(i);
+            final Component filledChild = fill(child, arguments);
+            if (filled == null && filledChild != child) {
+                filled = new ArrayList<>(children.subList(0, i));
+            }
+            if (filled != null) {
+                filled.add(filledChild);
+            }
+        }
+        return filled == null ? filledTemplate : filledTemplate.children(filled);
+    }
+
+    // Placeholders inside show_text and show_entity hover events are parsed into slots as well
+    private static Style fill(final Style style, final List<TranslationArgument> arguments) {
+        final HoverEvent<?> hoverEvent = style.hoverEvent();
+        if (hoverEvent == null) {
+            return style;
+        }
+
+        if (hoverEvent.value() instanceof final Component text) {
+            final Component filled = fill(text, arguments);
+            return filled == text ? style : style.hoverEvent(HoverEvent.showText(filled));
+        }
+        if (hoverEvent.value() instanceof final HoverEvent.ShowEntity entity && entity.name() != null) {
+            final Component name = Objects.requireNonNull(entity.name());
+            final Component filled = fill(name, arguments);
+            return filled == name ? style : style.hoverEvent(HoverEvent.showEntity(entity.name(filled)));
+        }
+        return style;
+    }
+
+    private static List<TranslationArgument> fill(final List<TranslationArgument> values, final List<TranslationArgument> arguments) {
+        List<TranslationArgument> filled = null;
+        for (int i = 0; i < values.size(); i++) {
+            final TranslationArgument value = values.get(i);
+            TranslationArgument filledValue = value;
+            if (value.value() instanceof final Component component) {
+                final Component filledComponent = fill(component, arguments);
+                if (filledComponent != component) {
+                    filledValue = TranslationArgument.component(filledComponent);
+                }
+            }
+            if (filled == null && filledValue != value) {
+                filled = new ArrayList<>(values.subList(0, i));
+            }
+            if (filled != null) {
+                filled.add(filledValue);
+            }
+        }
+        return filled == null ? values : filled;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Component argument(final TranslationArgument argument) {
+        final Component value = argument.asComponent();
+        // Named MiniMessage arguments are virtual components that render to the actual value
+        if (value instanceof final VirtualComponent virtual && virtual.contextType() == Void.class) {
+            final ComponentLike rendered = ((VirtualComponentRenderer<@Nullable Void>) virtual.renderer()).apply(null);
+            if (rendered != null) {
+                return rendered.asComponent();
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import io.github.namiuni.doburoku.annotation.PluralCategory;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.Lines;
+import io.github.namiuni.doburoku.annotation.annotations.Plural;
+import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+import io.github.namiuni.doburoku.standard.key.AnnotationKeyResolver;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translation source that loads each base name and locale of the classpath {@code .properties} bundles
+ * on the first lookup that needs it.
+ *
+ * <p>A loaded base name and locale pair is a {@linkplain Segment segment}. Keys declared by the
+ * registered {@link ResourceBundle} interfaces are indexed to their base name, so a lookup only loads the
+ * one segment that can contain the key; base names registered without an interface are probed in
+ * registration order. Locales that are no longer needed can be dropped with {@link #retain(Collection)},
+ * and once the estimated size of all segments exceeds the memory budget, the least recently used locales
+ * are evicted. Evicted segments are loaded again on their next lookup. Loads and evictions are reported to
+ * the registered {@link SegmentListener}s. This class is thread-safe.</p>
+ */
+@NullMarked
+public final class LazyTranslationSource implements TranslationSource {
+
+    // Rough per-entry overhead of the map node and the two string headers
+    private static final int ENTRY_OVERHEAD = 96;
+    private static final long TOUCH_INTERVAL = 1_000_000L;
+
+    private final ClassLoader loader;
+    private final Map<String, String> index;
+    private final List<String> unindexedBaseNames;
+    private final long memoryBudget;
+    private final List<SegmentListener> listeners;
+    private final Map<SegmentKey, Segment> segments = new ConcurrentHashMap<>();
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    private LazyTranslationSource(final Builder builder) {
+        this.loader = builder.loader;
+        this.index = Map.copyOf(builder.index);
+        this.unindexedBaseNames = List.copyOf(builder.unindexedBaseNames);
+        this.memoryBudget = builder.memoryBudget;
+        this.listeners = new CopyOnWriteArrayList<>(builder.listeners);
+    }
+
+    /**
+     * Creates a new builder that loads bundles through the given class loader.
+     *
+     * @param loader the class loader providing the bundle resources
+     * @return a new builder
+     */
+    public static Builder builder(final ClassLoader loader) {
+        return new Builder(Objects.requireNonNull(loader, "loader"));
+    }
+
+    @Override
+    public @Nullable String message(final String key, final Locale locale) {
+        final String baseName = this.index.get(key);
+        if (baseName != null) {
+            return this.segment(baseName, locale).message(key);
+        }
+
+        for (final String unindexed : this.unindexedBaseNames) {
+            final String message = this.segment(unindexed, locale).message(key);
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the currently loaded segments.
+     *
+     * @return an unmodifiable snapshot of the loaded segments, ordered by base name and locale
+     */
+    public List<Segment> segments() {
+        final List<Segment> snapshot = new ArrayList<>(this.segments.values());
+        snapshot.sort(Comparator.comparing(Segment::baseName).thenComparing(segment -> segment.locale().toString()));
+        return List.copyOf(snapshot);
+    }
+
+    /**
+     * Returns the estimated heap size of all loaded segments.
+     *
+     * @return the estimated size in bytes
+     */
+    public long estimatedBytes() {
+        return this.estimatedBytes.get();
+    }
+
+    /**
+     * Evicts every segment whose locale is not needed by any of the given locales.
+     *
+     * <p>A locale needs every locale {@link #lookup(String, Locale)} falls back through: itself, its language
+     * and country, its language and {@link Locale#ROOT}. The same chain is never evicted by the memory budget
+     * while one of its locales is loading. This is typically called with the locales of the players that are
+     * currently online.</p>
+     *
+     * @param locales the locales in use
+     */
+    public void retain(final Collection<Locale> locales) {
+        final Set<Locale> needed = new HashSet<>();
+        needed.add(Locale.ROOT);
+        for (final Locale locale : locales) {
+            needed.addAll(Bundles.fallbacks(locale));
+        }
+
+        for (final Segment segment : this.segments.values()) {
+            if (!needed.contains(segment.locale())) {
+                this.evict(segment);
+            }
+        }
+    }
+
+    /**
+     * Evicts every segment of the given locale.
+     *
+     * @param locale the locale to evict
+     */
+    public void evict(final Locale locale) {
+        for (final Segment segment : this.segments.values()) {
+            if (segment.locale().equals(locale)) {
+                this.evict(segment);
+            }
+        }
+    }
+
+    /**
+     * Registers a listener that is notified when segments are loaded or evicted.
+     *
+     * @param listener the listener
+     * @return this source
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LazyTranslationSource addListener(final SegmentListener listener) {
+        this.listeners.add(Objects.requireNonNull(listener, "listener"));
+        return this;
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener
+     * @return this source
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public LazyTranslationSource removeListener(final SegmentListener listener) {
+        this.listeners.remove(listener);
+        return this;
+    }
+
+    private Segment segment(final String baseName, final Locale locale) {
+        final SegmentKey key = new SegmentKey(baseName, locale);
+        final Segment existing = this.segments.get(key);
+        if (existing != null) {
+            existing.touch();
+            return existing;
+        }
+
+        final boolean[] loaded = new boolean[1];
+        final Segment segment = this.segments.computeIfAbsent(key, ignored -> {
+            loaded[0] = true;
+            return this.load(baseName, locale);
+        });
+
+        if (loaded[0]) {
+            this.estimatedBytes.addAndGet(segment.estimatedBytes());
+            for (final SegmentListener listener : this.listeners) {
+                listener.loaded(segment);
+            }
+            this.enforceBudget(locale);
+        }
+        return segment;
+    }
+
+    private Segment load(final String baseName, final Locale locale) {
+        final String fileName = Bundles.propertiesFileName(baseName, locale);
+        final Map<String, String> messages;
+        try (InputStream stream = this.loader.getResourceAsStream(fileName)) {
+            messages = stream == null ? Map.of() : Map.copyOf(Bundles.readProperties(stream));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to load resource bundle: " + fileName, e);
+        }
+
+        long bytes = 0;
+        for (final Map.Entry<String, String> entry : messages.entrySet()) {
+            bytes += ENTRY_OVERHEAD + 2L * (entry.getKey().length() + entry.getValue().length());
+        }
+        return new Segment(baseName, locale, messages, bytes);
+    }
+
+    private void enforceBudget(final Locale loading) {
+        if (this.estimatedBytes.get() <= this.memoryBudget) {
+            return;
+        }
+
+        // Least recently used locale first; a locale is as recent as its most recently used segment
+        final Map<Locale, Long> lastUsed = new HashMap<>();
+        for (final Segment segment : this.segments.values()) {
+            lastUsed.merge(segment.locale(), segment.lastUsed, Math::max);
+        }
+        // A lookup for the loading locale falls back through its whole chain, so none of it is evicted
+        lastUsed.keySet().removeAll(Bundles.fallbacks(loading));
+
+        final List<Locale> candidates = new ArrayList<>(lastUsed.keySet());
+        candidates.sort(Comparator.comparing(lastUsed::get));
+        for (final Locale locale : candidates) {
+            if (this.estimatedBytes.get() <= this.memoryBudget) {
+                return;
+            }
+            this.evict(locale);
+        }
+    }
+
+    private void evict(final Segment segment) {
+        if (this.segments.remove(new SegmentKey(segment.baseName(), segment.locale()), segment)) {
+            this.estimatedBytes.addAndGet(-segment.estimatedBytes());
+            for (final SegmentListener listener : this.listeners) {
+                listener.evicted(segment);
+            }
+        }
+    }
+
+    /**
+     * Receives segment loads and evictions.
+     */
+    public interface SegmentListener {
+
+        /**
+         * Called after a segment was loaded.
+         *
+         * @param segment the loaded segment
+         */
+        default void loaded(final Segment segment) {
+        }
+
+        /**
+         * Called after a segment was evicted.
+         *
+         * @param segment the evicted segment
+         */
+        default void evicted(final Segment segment) {
+        }
+    }
+
+    /**
+     * The messages of one base name in one locale.
+     */
+    public static final class Segment {
+
+        private final String baseName;
+        private final Locale locale;
+        private final Map<String, String> messages;
+        private final long estimatedBytes;
+        private volatile long lastUsed = System.nanoTime();
+
+        private Segment(final String baseName, final Locale locale, final Map<String, String> messages, final long estimatedBytes) {
+            this.baseName = baseName;
+            this.locale = locale;
+            this.messages = messages;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        /**
+         * Returns the base name of the segment.
+         *
+         * @return the base name
+         */
+        public String baseName() {
+            return this.baseName;
+        }
+
+        /**
+         * Returns the locale of the segment.
+         *
+         * @return the locale
+         */
+        public Locale locale() {
+            return this.locale;
+        }
+
+        /**
+         * Returns the number of messages in the segment, which is zero if the bundle does not exist.
+         *
+         * @return the number of messages
+         */
+        public int size() {
+            return this.messages.size();
+        }
+
+        /**
+         * Returns the estimated heap size of the messages in the segment.
+         *
+         * @return the estimated size in bytes
+         */
+        public long estimatedBytes() {
+            return this.estimatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Segment[baseName=%s, locale=%s, size=%d, estimatedBytes=%d]"
+                    .formatted(this.baseName, this.locale, this.size(), this.estimatedBytes);
+        }
+
+        private @Nullable String message(final String key) {
+            return this.messages.get(key);
+        }
+
+        private void touch() {
+            // Coarse timestamps keep concurrent lookups from writing the same field on every call
+            final long now = System.nanoTime();
+            if (now - this.lastUsed > TOUCH_INTERVAL) {
+                this.lastUsed = now;
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link LazyTranslationSource}.
+     */
+    public static final class Builder {
+
+        private final ClassLoader loader;
+        private final Map<String, String> index = new HashMap<>();
+        private final Set<String> unindexedBaseNames = new LinkedHashSet<>();
+        private final List<SegmentListener> listeners = new ArrayList<>();
+        private long memoryBudget = Long.MAX_VALUE;
+
+        private Builder(final ClassLoader loader) {
+            this.loader = loader;
+        }
+
+        /**
+         * Indexes the keys of a {@link ResourceBundle} interface and of the child interfaces it returns.
+         *
+         * <p>Child interfaces without a {@link ResourceBundle} of their own are indexed to the base name of
+         * the interface returning them.</p>
+         *
+         * <p>A key declared by several base names is served from the one registered first.</p>
+         *
+         * @param serviceInterface the interface annotated with {@link ResourceBundle}
+         * @return this builder
+         * @throws IllegalArgumentException if the interface is not annotated with {@link ResourceBundle}
+         */
+        @Contract(mutates = "this")
+        public Builder service(final Class<?> serviceInterface) {
+            if (!serviceInterface.isAnnotationPresent(ResourceBundle.class)) {
+                throw new IllegalArgumentException("Missing @ResourceBundle on: " + serviceInterface.getName());
+            }
+            this.index(serviceInterface, null, new HashSet<>());
+            return this;
+        }
+
+        /**
+         * Adds a base name whose keys are not indexed; it is probed for every key missing from the index.
+         *
+         * @param baseName the base name
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder bundle(final String baseName) {
+            this.unindexedBaseNames.add(Objects.requireNonNull(baseName, "baseName"));
+            return this;
+        }
+
+        /**
+         * Sets the estimated heap size above which the least recently used locales are evicted. The locale
+         * being loaded and the locales it falls back to are never evicted to make room for it.
+         *
+         * @param bytes the budget in bytes
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder memoryBudget(final long bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("Memory budget must be positive: " + bytes);
+            }
+            this.memoryBudget = bytes;
+            return this;
+        }
+
+        /**
+         * Adds a listener for segment loads and evictions.
+         *
+         * @param listener the listener
+         * @return this builder
+         */
+        @Contract(mutates = "this")
+        public Builder listener(final SegmentListener listener) {
+            this.listeners.add(Objects.requireNonNull(listener, "listener"));
+            return this;
+        }
+
+        /**
+         * Builds the source. Nothing is loaded until the first lookup.
+         *
+         * @return the source
+         */
+        public LazyTranslationSource build() {
+            return new LazyTranslationSource(this);
+        }
+
+        private static boolean isPlural(final Method method) {
+            for (final Parameter parameter : method.getParameters()) {
+                if (parameter.isAnnotationPresent(Plural.class)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Child interfaces without their own @ResourceBundle are served from the bundle of their parent
+        private void index(final Class<?> type, final @Nullable String parentBaseName, final Set<Class<?>> visited) {
+            if (!visited.add(type)) {
+                return;
+            }
+
+            final ResourceBundle resourceBundle = type.getAnnotation(ResourceBundle.class);
+            final String baseName = resourceBundle == null ? parentBaseName : resourceBundle.baseName();
+            for (final Method method : type.getMethods()) {
+                final Key key = method.getAnnotation(Key.class);
+                if (key != null && baseName != null) {
+                    final String fullKey = AnnotationKeyResolver.prefix(method.getDeclaringClass()) + key.value();
+                    final Lines lines = method.getAnnotation(Lines.class);
+                    if (lines == null) {
+                        // Plural messages fall back to the unsuffixed key when a form is missing
+                        this.index.putIfAbsent(fullKey, baseName);
+                    } else {
+                        for (int line = 1; line <= lines.value(); line++) {
+                            this.index.putIfAbsent(fullKey + "." + line, baseName);
+                        }
+                    }
+                    if (isPlural(method)) {
+                        for (final PluralCategory category : PluralCategory.values()) {
+                            this.index.putIfAbsent(fullKey + "." + category.suffix(), baseName);
+                        }
+                    }
+                } else if (key == null && method.getReturnType().getDeclaringClass() == method.getDeclaringClass()) {
+                    // Accessor of a nested child interface
+                    this.index(method.getReturnType(), baseName, visited);
+                }
+            }
+        }
+    }
+
+    private record SegmentKey(String baseName, Locale locale) {
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.VirtualComponent;
+import net.kyori.adventure.text.VirtualComponentRenderer;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translation argument carrying the raw count of a
+ * {@link io.github.namiuni.doburoku.annotation.annotations.Plural} message.
+ *
+ * <p>The count is appended to the arguments of plural messages as a virtual component, so that
+ * {@link PluralTranslator} can tell plural messages apart from messages that merely have numeric arguments.
+ * Rendered on its own, the argument is the count as text.</p>
+ *
+ * @param count the count selecting the plural form
+ */
+@NullMarked
+public record PluralCount(long count) implements VirtualComponentRenderer<@Nullable Void> {
+
+    /**
+     * Creates the argument carrying a count.
+     *
+     * @param count the count selecting the plural form
+     * @return a virtual component rendering as the count
+     */
+    public static VirtualComponent argument(final long count) {
+        return Component.virtual(Void.class, new PluralCount(count));
+    }
+
+    /**
+     * Finds the count appended to a plural message.
+     *
+     * @param component the translatable component
+     * @return the count, or {@code null} if the component is not a plural message
+     */
+    public static @Nullable PluralCount find(final TranslatableComponent component) {
+        for (final TranslationArgument argument : component.arguments()) {
+            if (argument.value() instanceof final VirtualComponent virtual && virtual.renderer() instanceof final PluralCount count) {
+                return count;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public ComponentLike apply(final @Nullable Void context) {
+        return Component.text(this.count);
+    }
+
+    @Override
+    public String fallbackString() {
+        return String.valueOf(this.count);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import io.github.namiuni.doburoku.annotation.PluralCategory;
+import io.github.namiuni.doburoku.annotation.PluralRule;
+import io.github.namiuni.doburoku.annotation.PluralRules;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.translation.Translator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translator that selects the plural form of messages with a
+ * {@link io.github.namiuni.doburoku.annotation.annotations.Plural} count.
+ *
+ * <p>The {@link PluralCount} argument of a plural message selects a {@link PluralCategory} through the
+ * {@link PluralRules} of the locale, and the delegate translates the key suffixed with that category,
+ * falling back to the {@code other} form and then to the unsuffixed key. Components without a
+ * {@link PluralCount} are passed to the delegate unchanged. The delegate must translate components, as {@link TranslationSourceTranslator} and
+ * {@link ComponentBundleTranslator} do.</p>
+ *
+ * <p>Rules are resolved once per locale and suffixed keys once per key, so a translation does no string
+ * concatenation. This class is thread-safe.</p>
+ */
+@NullMarked
+public final class PluralTranslator implements Translator {
+
+    private static final PluralCategory[] CATEGORIES = PluralCategory.values();
+
+    private final Translator delegate;
+    private final Map<Locale, PluralRule> rules = new ConcurrentHashMap<>();
+    private final Map<String, String[]> pluralKeys = new ConcurrentHashMap<>();
+
+    private PluralTranslator(final Translator delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Creates a translator selecting plural forms from the translations of a delegate.
+     *
+     * @param delegate the translator providing the suffixed keys
+     * @return a new translator
+     */
+    public static PluralTranslator of(final Translator delegate) {
+        return new PluralTranslator(Objects.requireNonNull(delegate, "delegate"));
+    }
+
+    @Override
+    public Key name() {
+        return this.delegate.name();
+    }
+
+    @Override
+    public @Nullable MessageFormat translate(final String key, final Locale locale) {
+        return this.delegate.translate(key, locale);
+    }
+
+    @Override
+    public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+        final PluralCount count = PluralCount.find(component);
+        if (count == null) {
+            return this.delegate.translate(component, locale);
+        }
+
+        final PluralCategory category = this.rules.computeIfAbsent(locale, PluralRules::of).select(count.count());
+        final String[] keys = this.pluralKeys.computeIfAbsent(component.key(), PluralTranslator::suffixedKeys);
+        final Component translated = this.delegate.translate(component.key(keys[category.ordinal()]), locale);
+        if (translated != null) {
+            return translated;
+        }
+        if (category != PluralCategory.OTHER) {
+            final Component other = this.delegate.translate(component.key(keys[PluralCategory.OTHER.ordinal()]), locale);
+            if (other != null) {
+                return other;
+            }
+        }
+        return this.delegate.translate(component, locale);
+    }
+
+    private static String[] suffixedKeys(final String key) {
+        final String[] keys = new String[CATEGORIES.length];
+        for (final PluralCategory category : CATEGORIES) {
+            keys[category.ordinal()] = key + "." + category.suffix();
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Translation source backed by the {@code .properties} bundles of one base name in a directory, which
+ * can be reloaded while the server is running.
+ *
+ * <p>Each locale is held as an immutable map that is replaced with a single write when its file
+ * changes, so readers never block and never observe a partially loaded file. A reload compares the old
+ * and new entries per key: unchanged messages keep their previous instance and only the keys that were
+ * added, changed or removed are reported to the registered {@link TranslationInvalidationListener}s.</p>
+ *
+ * <p>Sources created with {@link #watch(Path, String)} follow the directory through a
+ * {@link WatchService} on a daemon thread until they are {@linkplain #close() closed}. A file that
+ * cannot be read, for example while it is still being written, keeps its previous messages until the
+ * next change, and the failure is passed to the error handler given to
+ * {@link #watch(Path, String, Consumer)}. This class is thread-safe.</p>
+ */
+@NullMarked
+public final class ReloadableTranslationSource implements TranslationSource, AutoCloseable {
+
+    private final Path directory;
+    private final String baseName;
+    private final Map<Locale, Map<String, String>> locales = new ConcurrentHashMap<>();
+    private final List<TranslationInvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile @Nullable WatchService watchService;
+
+    private ReloadableTranslationSource(final Path directory, final String baseName) {
+        this.directory = directory;
+        this.baseName = baseName;
+    }
+
+    /**
+     * Loads the bundles of a base name from a directory without watching it.
+     *
+     * @param directory the directory containing the bundles
+     * @param baseName  the base name of the bundle files, e.g. {@code messages} for
+     *                  {@code messages_en_US.properties}
+     * @return the source
+     * @throws IOException if the directory or a bundle cannot be read
+     */
+    public static ReloadableTranslationSource load(final Path directory, final String baseName) throws IOException {
+        Objects.requireNonNull(directory, "directory");
+        Objects.requireNonNull(baseName, "baseName");
+
+        final ReloadableTranslationSource source = new ReloadableTranslationSource(directory, baseName);
+        source.reload();
+        return source;
+    }
+
+    /**
+     * Loads the bundles of a base name from a directory and reloads them whenever they change.
+     *
+     * <p>Failed reloads are reported to the uncaught exception handler of the watcher thread.</p>
+     *
+     * @param directory the directory containing the bundles
+     * @param baseName  the base name of the bundle files, e.g. {@code messages} for
+     *                  {@code messages_en_US.properties}
+     * @return the source, which must be closed to stop watching
+     * @throws IOException if the directory or a bundle cannot be read, or the directory cannot be watched
+     */
+    public static ReloadableTranslationSource watch(final Path directory, final String baseName) throws IOException {
+        return watch(directory, baseName, exception -> {
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+        });
+    }
+
+    /**
+     * Loads the bundles of a base name from a directory and reloads them whenever they change, reporting
+     * failed reloads to the given handler.
+     *
+     * <p>The directory is watched before the bundles are loaded, so no change made while loading is missed.
+     * The handler is called on the watcher thread. The messages of a bundle that failed to reload stay in
+     * place until its next change; unexpected runtime exceptions are passed to the uncaught exception
+     * handler of the watcher thread, which keeps watching.</p>
+     *
+     * @param directory    the directory containing the bundles
+     * @param baseName     the base name of the bundle files, e.g. {@code messages} for
+     *                     {@code messages_en_US.properties}
+     * @param errorHandler the handler receiving the exceptions of failed reloads
+     * @return the source, which must be closed to stop watching
+     * @throws IOException if the directory or a bundle cannot be read, or the directory cannot be watched
+     */
+    public static ReloadableTranslationSource watch(
+            final Path directory,
+            final String baseName,
+            final Consumer<? super IOException> errorHandler
+    ) throws IOException {
+        Objects.requireNonNull(directory, "directory");
+        Objects.requireNonNull(baseName, "baseName");
+        Objects.requireNonNull(errorHandler, "errorHandler");
+        final ReloadableTranslationSource source = new ReloadableTranslationSource(directory, baseName);
+
+        final WatchService watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            source.reload();
+        } catch (final IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+        source.watchService = watchService;
+
+        Thread.ofPlatform()
+                .daemon()
+                .name("doburoku-bundle-watcher-" + baseName)
+                .start(() -> source.watch(watchService, errorHandler));
+        return source;
+    }
+
+    /**
+     * Returns the locales that currently have a bundle.
+     *
+     * @return an unmodifiable snapshot of the loaded locales
+     */
+    public Set<Locale> locales() {
+        return Set.copyOf(this.locales.keySet());
+    }
+
+    @Override
+    public @Nullable String message(final String key, final Locale locale) {
+        final Map<String, String> messages = this.locales.get(locale);
+        return messages == null ? null : messages.get(key);
+    }
+
+    /**
+     * Registers a listener that is notified of the keys changed by each reload.
+     *
+     * @param listener the listener
+     * @return this source
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public ReloadableTranslationSource addListener(final TranslationInvalidationListener listener) {
+        this.listeners.add(Objects.requireNonNull(listener, "listener"));
+        return this;
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener
+     * @return this source
+     */
+    @Contract(value = "_ -> this", mutates = "this")
+    public ReloadableTranslationSource removeListener(final TranslationInvalidationListener listener) {
+        this.listeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * Reloads every bundle of the base name in the directory.
+     *
+     * <p>Bundles whose file disappeared are unloaded. Listeners are notified per locale of the keys that
+     * changed.</p>
+     *
+     * @throws IOException if the directory or a bundle cannot be read, or a bundle is malformed
+     */
+    public void reload() throws IOException {
+        this.reloadLock.lock();
+        try {
+            final Set<Locale> present = new HashSet<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(this.directory,
+                    file -> Bundles.propertiesLocale(file.getFileName().toString(), this.baseName) != null)) {
+                for (final Path file : files) {
+                    final Locale locale = Bundles.propertiesLocale(file.getFileName().toString(), this.baseName);
+                    if (locale != null) {
+                        present.add(locale);
+                        this.reload(locale, file);
+                    }
+                }
+            }
+
+            for (final Locale locale : Set.copyOf(this.locales.keySet())) {
+                if (!present.contains(locale)) {
+                    this.reload(locale, this.directory.resolve(Bundles.propertiesFileName(this.baseName, locale)));
+                }
+            }
+        } catch (final DirectoryIteratorException e) {
+            throw e.getCause();
+        } finally {
+            this.reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Stops watching the directory. The messages loaded so far remain available.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        final WatchService service = this.watchService;
+        if (service != null) {
+            this.watchService = null;
+            service.close();
+        }
+    }
+
+    private void watch(final WatchService service, final Consumer<? super IOException> errorHandler) {
+        try {
+            while (true) {
+                final WatchKey key = service.take();
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    try {
+                        this.handle(event);
+                    } catch (final IOException e) {
+                        this.report(errorHandler, e);
+                    } catch (final RuntimeException e) {
+                        // An unexpected failure must not stop the watcher either
+                        final Thread thread = Thread.currentThread();
+                        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                    }
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (final ClosedWatchServiceException e) {
+            // closed by close()
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(final WatchEvent<?> event) throws IOException {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            this.reload();
+            return;
+        }
+
+        final Path file = (Path) event.context();
+        final Locale locale = Bundles.propertiesLocale(file.getFileName().toString(), this.baseName);
+        if (locale == null) {
+            return;
+        }
+
+        this.reloadLock.lock();
+        try {
+            this.reload(locale, this.directory.resolve(file));
+        } finally {
+            this.reloadLock.unlock();
+        }
+    }
+
+    private void report(final Consumer<? super IOException> errorHandler, final IOException exception) {
+        try {
+            errorHandler.accept(exception);
+        } catch (final RuntimeException e) {
+            // A failing handler must not stop the watcher
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+    private void reload(final Locale locale, final Path file) throws IOException {
+        final Map<String, String> loaded;
+        final boolean exists = Files.isRegularFile(file);
+        if (exists) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                loaded = Bundles.readProperties(stream);
+            } catch (final IllegalArgumentException e) {
+                throw new IOException("Malformed bundle: " + file, e);
+            }
+        } else {
+            loaded = Map.of();
+        }
+
+        final Map<String, String> previous = this.locales.getOrDefault(locale, Map.of());
+        final Map<String, String> next = new HashMap<>(loaded.size() * 4 / 3 + 1);
+        final Set<String> changed = new HashSet<>();
+        for (final Map.Entry<String, String> entry : loaded.entrySet()) {
+            final String previousMessage = previous.get(entry.getKey());
+            if (entry.getValue().equals(previousMessage)) {
+                next.put(entry.getKey(), previousMessage);
+            } else {
+                next.put(entry.getKey(), entry.getValue());
+                changed.add(entry.getKey());
+            }
+        }
+        for (final String key : previous.keySet()) {
+            if (!loaded.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+
+        if (exists) {
+            if (changed.isEmpty() && this.locales.containsKey(locale)) {
+                return;
+            }
+            this.locales.put(locale, Map.copyOf(next));
+        } else {
+            this.locales.remove(locale);
+        }
+
+        if (!changed.isEmpty()) {
+            this.notifyListeners(locale, Set.copyOf(changed));
+        }
+    }
+
+    private void notifyListeners(final Locale locale, final Set<String> keys) {
+        for (final TranslationInvalidationListener listener : this.listeners) {
+            try {
+                listener.invalidate(locale, keys);
+            } catch (final RuntimeException e) {
+                final Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+}
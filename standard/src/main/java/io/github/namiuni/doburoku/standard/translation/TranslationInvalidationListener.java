@@ -0,0 +1,47 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import java.util.Locale;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Receives the keys whose messages changed in a translation source, so that caches derived from those
+ * messages can drop exactly the affected entries.
+ */
+@NullMarked
+@FunctionalInterface
+public interface TranslationInvalidationListener {
+
+    /**
+     * Called after the messages of the given keys were added, changed or removed in one locale.
+     *
+     * <p>The new messages are already visible when this method is called.</p>
+     *
+     * @param locale the locale whose messages changed
+     * @param keys   the affected keys, never empty
+     */
+    void invalidate(Locale locale, Set<String> keys);
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import io.github.namiuni.doburoku.annotation.Locales;
+import java.util.List;
+import java.util.Locale;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Provides raw message strings per key and locale.
+ *
+ * <p>Implementations answer for exactly the requested locale; fallback to less specific locales is
+ * handled by {@link #lookup(String, Locale)}. Implementations should be thread-safe.</p>
+ */
+@NullMarked
+@FunctionalInterface
+public interface TranslationSource {
+
+    /**
+     * Returns the message for the given key in exactly the given locale.
+     *
+     * @param key    the translation key
+     * @param locale the locale
+     * @return the message, or {@code null} if this source has no entry for the key in that locale
+     */
+    @Nullable String message(String key, Locale locale);
+
+    /**
+     * Returns the message for the given key, falling back from the locale to its language and country,
+     * its language and then {@link Locale#ROOT}, the same way {@link java.util.ResourceBundle} chains
+     * bundles. Sources holding delta-encoded bundles rely on this to inherit the entries they omit.
+     *
+     * @param key    the translation key
+     * @param locale the requested locale
+     * @return the most specific message available, or {@code null} if there is none
+     */
+    default @Nullable String lookup(final String key, final Locale locale) {
+        final Locales known = Locales.fromLocale(locale);
+        if (known != null) {
+            // Precomputed chain, no Locale construction on the hot path
+            final List<Locale> chain = known.fallbackChain();
+            for (int i = 0; i < chain.size(); i++) {
+                final String message = this.message(key, chain.get(i));
+                if (message != null) {
+                    return message;
+                }
+            }
+            return null;
+        }
+
+        final String message = this.message(key, locale);
+        if (message != null || locale.equals(Locale.ROOT)) {
+            return message;
+        }
+
+        if (!locale.getVariant().isEmpty() && !locale.getCountry().isEmpty()) {
+            final String countryMessage = this.message(key, Locale.of(locale.getLanguage(), locale.getCountry()));
+            if (countryMessage != null) {
+                return countryMessage;
+            }
+        }
+
+        if (!locale.getCountry().isEmpty() || !locale.getVariant().isEmpty()) {
+            final String languageMessage = this.message(key, Locale.of(locale.getLanguage()));
+            if (languageMessage != null) {
+                return languageMessage;
+            }
+        }
+
+        return this.message(key, Locale.ROOT);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import java.util.Locale;
+import java.util.Objects;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.translation.MiniMessageTranslator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Adventure translator that renders MiniMessage strings looked up from a {@link TranslationSource}.
+ *
+ * <p>Register it with {@code GlobalTranslator.translator().addSource(...)} like any other translator.</p>
+ */
+@NullMarked
+public final class TranslationSourceTranslator extends MiniMessageTranslator {
+
+    private final Key name;
+    private final TranslationSource source;
+
+    private TranslationSourceTranslator(final Key name, final TranslationSource source, final MiniMessage miniMessage) {
+        super(miniMessage);
+        this.name = name;
+        this.source = source;
+    }
+
+    /**
+     * Creates a translator using the default {@link MiniMessage} instance.
+     *
+     * @param name   the translator name
+     * @param source the source to look messages up from
+     * @return a new translator
+     */
+    public static TranslationSourceTranslator of(final Key name, final TranslationSource source) {
+        return of(name, source, MiniMessage.miniMessage());
+    }
+
+    /**
+     * Creates a translator.
+     *
+     * @param name        the translator name
+     * @param source      the source to look messages up from
+     * @param miniMessage the MiniMessage instance used to parse messages
+     * @return a new translator
+     */
+    public static TranslationSourceTranslator of(final Key name, final TranslationSource source, final MiniMessage miniMessage) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(miniMessage, "miniMessage");
+        return new TranslationSourceTranslator(name, source, miniMessage);
+    }
+
+    /**
+     * The source backing this translator.
+     *
+     * @return the translation source
+     */
+    public TranslationSource source() {
+        return this.source;
+    }
+
+    @Override
+    public Key name() {
+        return this.name;
+    }
+
+    @Override
+    protected @Nullable String getMiniMessageString(final String key, final Locale locale) {
+        return this.source.lookup(key, locale);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Translation sources that back Adventure translators with generated bundles.
+ */
+package io.github.namiuni.doburoku.standard.translation;
@@ -0,0 +1,152 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import io.github.namiuni.doburoku.annotation.annotations.Joining;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.Lines;
+import io.github.namiuni.doburoku.standard.key.AnnotationKeyResolver;
+import io.github.namiuni.doburoku.standard.key.exception.MissingTranslationKeyException;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BreweryTest {
+
+    private final AnnotationKeyResolver keyResolver = new AnnotationKeyResolver();
+    private final Brewery brewery = Brewery.builder()
+            .key(context -> {
+                if (context.method().getName().equals("linked")) {
+                    throw new NoClassDefFoundError("com/example/Missing");
+                }
+                return this.keyResolver.resolve(context);
+            })
+            .build();
+
+    @Test
+    @DisplayName("Verify that brewed proxies translate and are shared per interface")
+    void testBrew() {
+        final ShopService shop = this.brewery.brew(ShopService.class);
+
+        assertEquals(Component.translatable("shop.open"), shop.open());
+        assertEquals(Component.translatable("shop.admin.restock"), shop.admin().restock());
+        assertSame(shop, this.brewery.brew(ShopService.class));
+        assertSame(shop.admin(), shop.admin());
+    }
+
+    @Test
+    @DisplayName("Verify error when brewing a class that is not an interface")
+    void testBrewRejectsClasses() {
+        assertThrows(IllegalArgumentException.class, () -> this.brewery.brew(String.class));
+    }
+
+    @Test
+    @DisplayName("Verify that brewAll reports every failure in order and keeps the valid proxies")
+    void testBrewAllReportsFailures() {
+        final BrewingReport report = this.brewery.brewAll(List.of(ShopService.class, BrokenService.class, String.class));
+
+        assertFalse(report.successful());
+        assertEquals(List.of(ShopService.class), List.copyOf(report.proxies().keySet()));
+        assertSame(this.brewery.brew(ShopService.class), report.proxy(ShopService.class));
+        assertNull(report.proxy(BrokenService.class));
+
+        final List<BrewingReport.Failure> failures = report.failures();
+        assertEquals(3, failures.size());
+
+        assertEquals(BrokenService.class, failures.get(0).serviceInterface());
+        assertEquals("linked", failures.get(0).method().getName());
+        assertInstanceOf(NoClassDefFoundError.class, failures.get(0).cause());
+
+        assertEquals(BrokenService.class, failures.get(1).serviceInterface());
+        assertEquals("missing", failures.get(1).method().getName());
+        assertInstanceOf(MissingTranslationKeyException.class, failures.get(1).cause());
+
+        assertEquals(String.class, failures.get(2).serviceInterface());
+        assertNull(failures.get(2).method());
+        assertInstanceOf(IllegalArgumentException.class, failures.get(2).cause());
+    }
+
+    @Test
+    @DisplayName("Verify that brewAll reports methods whose results or arguments cannot be produced")
+    void testBrewAllReportsUnsupportedMethods() {
+        final BrewingReport report = this.brewery.brewAll(List.of(UnsupportedService.class));
+
+        assertFalse(report.successful());
+        assertNull(report.proxy(UnsupportedService.class));
+
+        final List<BrewingReport.Failure> failures = report.failures();
+        assertEquals(3, failures.size());
+
+        assertEquals("count", failures.get(0).method().getName());
+        assertInstanceOf(IllegalStateException.class, failures.get(0).cause());
+
+        assertEquals("joined", failures.get(1).method().getName());
+        assertInstanceOf(IllegalArgumentException.class, failures.get(1).cause());
+
+        assertEquals("lore", failures.get(2).method().getName());
+        assertInstanceOf(IllegalStateException.class, failures.get(2).cause());
+    }
+
+    interface ShopService {
+
+        @Key("shop.open")
+        Component open();
+
+        Admin admin();
+
+        interface Admin {
+
+            @Key("shop.admin.restock")
+            Component restock();
+        }
+    }
+
+    interface UnsupportedService {
+
+        @Key("unsupported.count")
+        Integer count();
+
+        @Key("unsupported.joined")
+        Component joined(@Joining(limit = 0) List<String> names);
+
+        @Lines(2)
+        @Key("unsupported.lore")
+        Component lore();
+    }
+
+    interface BrokenService {
+
+        @Key("broken.linked")
+        Component linked();
+
+        Component missing();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.spi.BulkInvocation;
+import io.github.namiuni.doburoku.standard.key.AnnotationKeyResolver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkInvocationTest {
+
+    private final AtomicInteger keyResolutions = new AtomicInteger();
+    private final AnnotationKeyResolver keyResolver = new AnnotationKeyResolver();
+    private final LeaderboardService service = DoburokuStandard.of(LeaderboardService.class)
+            .key(context -> {
+                this.keyResolutions.incrementAndGet();
+                return this.keyResolver.resolve(context);
+            })
+            .brew();
+
+    @Test
+    @DisplayName("Verify that bulk invocations match individual calls and resolve the key once")
+    void testInvokeAll() {
+        final List<Entry> entries = entries(500);
+
+        final List<Component> bulk = BulkInvocation.invokeAll(this.service, (messages, entry) -> messages.rank(entry.name(), entry.score()), entries);
+
+        assertEquals(1, this.keyResolutions.get());
+        final List<Component> individual = new ArrayList<>();
+        for (final Entry entry : entries) {
+            individual.add(this.service.rank(entry.name(), entry.score()));
+        }
+        assertEquals(individual, bulk);
+    }
+
+    @Test
+    @DisplayName("Verify that parallel bulk invocations keep the order of the elements")
+    void testInvokeAllParallel() {
+        final List<Entry> entries = entries(10_000);
+
+        final List<Component> sequential = BulkInvocation.invokeAll(this.service, (messages, entry) -> messages.rank(entry.name(), entry.score()), entries);
+        final List<Component> parallel = BulkInvocation.invokeAllParallel(this.service, (messages, entry) -> messages.rank(entry.name(), entry.score()), entries);
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("Verify that bulk invocations reach methods of child interfaces")
+    void testInvokeAllChild() {
+        final List<Entry> entries = entries(100);
+
+        final List<Component> bulk = BulkInvocation.invokeAll(this.service, (messages, entry) -> messages.weekly().rank(entry.name(), entry.score()), entries);
+
+        assertEquals(1, this.keyResolutions.get());
+        final List<Component> individual = new ArrayList<>();
+        for (final Entry entry : entries) {
+            individual.add(this.service.weekly().rank(entry.name(), entry.score()));
+        }
+        assertEquals(individual, bulk);
+    }
+
+    @Test
+    @DisplayName("Verify that calls switching methods are rejected")
+    void testMixedMethodsAreRejected() {
+        final List<Entry> entries = entries(2);
+
+        assertThrows(IllegalArgumentException.class, () -> BulkInvocation.invokeAll(this.service,
+                (messages, entry) -> entry.score() % 2 == 0 ? messages.rank(entry.name(), entry.score()) : messages.header(entry.name()),
+                entries));
+        assertThrows(IllegalArgumentException.class, () -> BulkInvocation.invokeAll(this.service,
+                (messages, entry) -> entry.score() % 2 == 0 ? messages.rank(entry.name(), entry.score()) : messages.weekly().rank(entry.name(), entry.score()),
+                entries));
+        assertThrows(IllegalArgumentException.class, () -> BulkInvocation.invokeAll(new Object(), (object, entry) -> object, entries));
+    }
+
+    private static List<Entry> entries(final int size) {
+        final List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry("player" + i, i));
+        }
+        return entries;
+    }
+
+    private record Entry(String name, int score) {
+    }
+
+    interface LeaderboardService {
+
+        @Key("leaderboard.rank")
+        Component rank(String playerName, int score);
+
+        @Key("leaderboard.header")
+        Component header(String title);
+
+        WeeklyService weekly();
+
+        interface WeeklyService {
+
+            @Key("leaderboard.weekly.rank")
+            Component rank(String playerName, int score);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.Name;
+import io.github.namiuni.doburoku.standard.argument.MiniMessageArgumentTransformer;
+import io.github.namiuni.doburoku.standard.key.AnnotationKeyResolver;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClassLoaderLeakTest {
+
+    // Shared across "reloads", just like a library-level singleton would be
+    private final AnnotationKeyResolver keyResolver = new AnnotationKeyResolver();
+    private final MiniMessageArgumentTransformer argumentTransformer = MiniMessageArgumentTransformer.create();
+
+    @Test
+    @DisplayName("Verify that shared resolvers do not pin a discarded class loader")
+    void testDiscardedClassLoaderIsCollected() throws Exception {
+        final WeakReference<ClassLoader> loader = this.brewAndInvokeInIsolatedLoader();
+
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            final List<byte[]> pressure = new ArrayList<>();
+            for (int j = 0; j < 16; j++) {
+                pressure.add(new byte[1 << 20]);
+            }
+            assertNotNull(pressure);
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(loader.get(), "class loader was not collected");
+    }
+
+    private WeakReference<ClassLoader> brewAndInvokeInIsolatedLoader() throws Exception {
+        final ClassLoader loader = new ChildFirstClassLoader(ClassLoaderLeakTest.class.getClassLoader(), LeakyService.class.getName());
+        final Class<?> service = loader.loadClass(LeakyService.class.getName());
+
+        final Object proxy = DoburokuStandard.of(service)
+                .key(this.keyResolver)
+                .argument(registry -> {
+                }, this.argumentTransformer)
+                .brew();
+
+        final Method message = service.getMethod("message", String.class);
+        assertNotNull(message.invoke(proxy, "value"));
+
+        final Object child = service.getMethod("child").invoke(proxy);
+        final Method childMessage = child.getClass().getInterfaces()[0].getMethod("message", String.class);
+        assertNotNull(childMessage.invoke(child, "value"));
+
+        return new WeakReference<>(loader);
+    }
+
+    public interface LeakyService {
+
+        @Key("leak.message")
+        Component message(@Name("value") String value);
+
+        Child child();
+
+        interface Child {
+
+            @Key("leak.child.message")
+            Component message(@Name("value") String value);
+        }
+    }
+
+    private static final class ChildFirstClassLoader extends ClassLoader {
+
+        private final String prefix;
+
+        private ChildFirstClassLoader(final ClassLoader parent, final String prefix) {
+            super(parent);
+            this.prefix = prefix;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(this.prefix)) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (this.getClassLoadingLock(name)) {
+                final Class<?> loaded = this.findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+
+                final String resource = name.replace('.', '/') + ".class";
+                try (InputStream stream = this.getParent().getResourceAsStream(resource)) {
+                    if (stream == null) {
+                        throw new ClassNotFoundException(name);
+                    }
+                    final byte[] bytes = stream.readAllBytes();
+                    return this.defineClass(name, bytes, 0, bytes.length);
+                } catch (final IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.leangen.geantyref.TypeToken;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ElementResultTest {
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final ListService service = DoburokuStandard.of(ListService.class)
+            .argument(registry -> {
+                registry.plus(String.class, (parameter, name) -> {
+                    this.renders.incrementAndGet();
+                    return Component.text(name);
+                });
+            })
+            .brew();
+    private final List<String> names = names(1_000);
+
+    @Test
+    @DisplayName("Verify that stream results render only the consumed elements")
+    void testStreamIsLazy() {
+        final List<Component> page = this.service.lines(this.names, 2).skip(10).limit(5).toList();
+
+        assertEquals(15, this.renders.get());
+        assertEquals(Component.translatable("list.line", Component.text("player10"), Component.text("2")), page.getFirst());
+        assertEquals(5, page.size());
+    }
+
+    @Test
+    @DisplayName("Verify that iterable results render elements while iterating")
+    void testIterableIsLazy() {
+        final List<Component> lines = new ArrayList<>();
+        for (final Component line : this.service.iterable(this.names)) {
+            lines.add(line);
+            if (lines.size() == 3) {
+                break;
+            }
+        }
+
+        assertEquals(3, this.renders.get());
+        assertEquals(Component.translatable("list.line", Component.text("player2")), lines.getLast());
+    }
+
+    @Test
+    @DisplayName("Verify that a null collection yields no results")
+    void testNullCollection() {
+        assertEquals(0, this.service.lines(null, 1).count());
+    }
+
+    @Test
+    @DisplayName("Verify that iterable parameters other than collections are not rendered per element")
+    void testPathIsNotElementSource() {
+        // Rendered as a whole, Iterable<Component> has no result transformer
+        assertThrows(IllegalStateException.class, () -> this.service.file(Path.of("plugins", "doburoku", "messages")));
+    }
+
+    @Test
+    @DisplayName("Verify that return types with a registered transformer are resolved as a whole")
+    void testRegisteredTransformerIsKept() {
+        final ListService transformed = DoburokuStandard.of(ListService.class)
+                .result(registry -> registry.plus(new TypeToken<Stream<Component>>() { }, (method, component) -> Stream.of(component)))
+                .brew();
+
+        final List<Component> lines = transformed.lines(List.of("a", "b", "c"), 1).toList();
+
+        assertEquals(1, lines.size());
+    }
+
+    private static List<String> names(final int size) {
+        final List<String> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add("player" + i);
+        }
+        return names;
+    }
+
+    interface ListService {
+
+        @Key("list.line")
+        Stream<Component> lines(List<String> names, int page);
+
+        @Key("list.line")
+        Iterable<Component> iterable(List<String> names);
+
+        @Key("list.file")
+        Iterable<Component> file(Path path);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import io.github.namiuni.doburoku.annotation.annotations.Joining;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import java.nio.file.Path;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JoiningArgumentTest {
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final OnlineService service = DoburokuStandard.of(OnlineService.class)
+            .argument(registry -> {
+                registry.plus(String.class, (parameter, name) -> {
+                    this.renders.incrementAndGet();
+                    return Component.text(name);
+                });
+            })
+            .brew();
+
+    @Test
+    @DisplayName("Verify that elements are joined with the default separator")
+    void testDefaultSeparator() {
+        assertEquals(Component.translatable("scores", Component.textOfChildren(
+                Component.text("1"),
+                Component.text(", "),
+                Component.text("2")
+        )), this.service.scores(List.of(1, 2)));
+    }
+
+    @Test
+    @DisplayName("Verify that rendering stops at the limit and the rest is summarized")
+    void testLimit() {
+        final Component online = this.service.online(List.of("a", "b", "c", "d", "e"));
+
+        assertEquals(3, this.renders.get());
+        assertEquals(Component.translatable("online", Component.textOfChildren(
+                Component.text("a"),
+                Component.text(" | "),
+                Component.text("b"),
+                Component.text(" | "),
+                Component.text("c"),
+                Component.text(" | "),
+                Component.translatable("doburoku.joining.more", "and %s more", Component.text(2))
+        )), online);
+    }
+
+    @Test
+    @DisplayName("Verify that iterables which are not collections are rendered as a whole")
+    void testPathIsNotJoined() {
+        final Path single = Path.of("plugins");
+        final Path nested = Path.of("plugins", "doburoku", "messages.properties");
+
+        assertEquals(Component.translatable("file", Component.text(String.valueOf(single))), this.service.file(single));
+        assertEquals(Component.translatable("file", Component.text(String.valueOf(nested))), this.service.file(nested));
+    }
+
+    @Test
+    @DisplayName("Verify that single and empty collections are not wrapped")
+    void testSingleAndEmpty() {
+        assertEquals(Component.translatable("online", Component.text("a")), this.service.online(List.of("a")));
+        assertEquals(Component.translatable("online", Component.empty()), this.service.online(List.of()));
+    }
+
+    @Test
+    @DisplayName("Verify that collections shrinking while rendered are joined from what the iterator returns")
+    void testShrinkingCollection() {
+        final List<String> remaining = List.of("a", "b");
+        final Collection<String> players = new AbstractCollection<>() {
+            @Override
+            public Iterator<String> iterator() {
+                return remaining.iterator();
+            }
+
+            @Override
+            public int size() {
+                return 5;
+            }
+        };
+
+        assertEquals(Component.translatable("online", Component.textOfChildren(
+                Component.text("a"),
+                Component.text(" | "),
+                Component.text("b")
+        )), this.service.online(players));
+    }
+
+    interface OnlineService {
+
+        @Key("online")
+        Component online(@Joining(value = " | ", limit = 3) Collection<String> players);
+
+        @Key("file")
+        Component file(Path path);
+
+        @Key("scores")
+        Component scores(List<Integer> scores);
+    }
+}
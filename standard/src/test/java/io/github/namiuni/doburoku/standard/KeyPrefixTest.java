@@ -0,0 +1,103 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.KeyPrefix;
+import io.github.namiuni.doburoku.standard.key.AnnotationKeyResolver;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeyPrefixTest {
+
+    private final PluginService service = DoburokuStandard.of(PluginService.class).brew();
+
+    @Test
+    @DisplayName("Verify that interface prefixes apply to their own methods")
+    void testInterfacePrefix() {
+        assertEquals(Component.translatable("myplugin.reload"), this.service.reload());
+    }
+
+    @Test
+    @DisplayName("Verify that accessor prefixes compose with enclosing interface prefixes")
+    void testAccessorPrefix() {
+        assertEquals(Component.translatable("myplugin.shop.buy.success"), this.service.shop().bought());
+        assertEquals(Component.translatable("myplugin.shop.buy.failure"), this.service.shop().failed());
+    }
+
+    @Test
+    @DisplayName("Verify that full keys are concatenated once and reused")
+    void testKeysAreInterned() {
+        final TranslatableComponent first = (TranslatableComponent) this.service.shop().bought();
+        final TranslatableComponent second = (TranslatableComponent) this.service.shop().bought();
+
+        assertSame(first.key(), second.key());
+        assertEquals("myplugin.shop.", AnnotationKeyResolver.prefix(PluginService.Shop.class));
+    }
+
+    @Test
+    @DisplayName("Verify error when accessors of the same child interface declare different prefixes")
+    void testConflictingAccessorPrefixes() {
+        assertThrows(IllegalStateException.class, () -> AnnotationKeyResolver.prefix(ConflictingService.Child.class));
+    }
+
+    @KeyPrefix("myplugin")
+    interface PluginService {
+
+        @Key("reload")
+        Component reload();
+
+        @KeyPrefix("shop")
+        Shop shop();
+
+        interface Shop {
+
+            @Key("buy.success")
+            Component bought();
+
+            @Key("buy.failure")
+            Component failed();
+        }
+    }
+
+    interface ConflictingService {
+
+        @KeyPrefix("first")
+        Child first();
+
+        @KeyPrefix("second")
+        Child second();
+
+        interface Child {
+
+            @Key("message")
+            Component message();
+        }
+    }
+}
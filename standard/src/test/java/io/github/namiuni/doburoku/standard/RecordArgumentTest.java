@@ -0,0 +1,95 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.standard.argument.MiniMessageArgumentTransformer;
+import io.github.namiuni.doburoku.standard.argument.TranslationArgumentTransformer;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecordArgumentTest {
+
+    private static final MiniMessageArgumentTransformer NAMES = MiniMessageArgumentTransformer.create();
+
+    // Labels expanded components with their MiniMessage name so the arguments can be compared by value
+    private static final TranslationArgumentTransformer LABELS = new TranslationArgumentTransformer() {
+        @Override
+        public ComponentLike transform(final Parameter parameter, final ComponentLike argument) {
+            return argument;
+        }
+
+        @Override
+        public ComponentLike transform(final Parameter parameter, final RecordComponent component, final ComponentLike argument) {
+            return Component.text(NAMES.resolveName(parameter, component) + "=").append(argument);
+        }
+    };
+
+    private final StatsService service = DoburokuStandard.of(StatsService.class)
+            .argument(registry -> {
+                registry.plus(int.class, (parameter, value) -> Component.text("#" + value));
+            }, LABELS)
+            .brew();
+
+    @Test
+    @DisplayName("Verify that record components are appended as named arguments after the parameters")
+    void testRecordIsExpanded() {
+        final PlayerStats stats = new PlayerStats(12, 3);
+
+        assertEquals(Component.translatable(
+                "stats",
+                Component.text("Steve"),
+                Component.text(String.valueOf(stats)),
+                Component.text("stats_kills=").append(Component.text("#12")),
+                Component.text("stats_kill_streak=").append(Component.text("#3"))
+        ), this.service.stats("Steve", stats));
+    }
+
+    @Test
+    @DisplayName("Verify that a null record expands into empty arguments")
+    void testNullRecord() {
+        assertEquals(Component.translatable(
+                "stats",
+                Component.text("Steve"),
+                Component.empty(),
+                Component.text("stats_kills=").append(Component.empty()),
+                Component.text("stats_kill_streak=").append(Component.empty())
+        ), this.service.stats("Steve", null));
+    }
+
+    record PlayerStats(int kills, int killStreak) {
+    }
+
+    interface StatsService {
+
+        @Key("stats")
+        Component stats(String player, @Nullable PlayerStats stats);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.TranslatableComponent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BatchedMessageDispatcherTest {
+
+    private final FlushTrigger.Manual scheduler = FlushTrigger.manual();
+
+    @Test
+    @DisplayName("Verify that messages wait for the next tick and arrive grouped by audience")
+    void testMessagesAreSentOnTick() {
+        final BatchedMessageDispatcher dispatcher = BatchedMessageDispatcher.builder().trigger(this.scheduler).build();
+        final List<String> log = new ArrayList<>();
+        final RecordingAudience steve = new RecordingAudience("steve", log);
+        final RecordingAudience alex = new RecordingAudience("alex", log);
+
+        dispatcher.transformer().transform(null, Component.translatable("first")).accept(steve);
+        dispatcher.transformer().transform(null, Component.translatable("second")).accept(alex);
+        dispatcher.transformer().transform(null, Component.translatable("third")).accept(steve);
+        assertTrue(log.isEmpty());
+        assertEquals(3, dispatcher.pending());
+
+        this.scheduler.tick();
+
+        assertEquals(List.of("steve:first", "steve:third", "alex:second"), log);
+        assertEquals(0, dispatcher.pending());
+    }
+
+    @Test
+    @DisplayName("Verify that messages queued from many threads are all delivered")
+    void testConcurrentProducers() throws InterruptedException {
+        final BatchedMessageDispatcher dispatcher = BatchedMessageDispatcher.builder().trigger(this.scheduler).build();
+        final List<String> log = new ArrayList<>();
+        final RecordingAudience audience = new RecordingAudience("steve", log);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    dispatcher.enqueue(audience, Component.text(i));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        this.scheduler.tick();
+
+        assertEquals(4_000, log.size());
+        assertEquals(0, dispatcher.pending());
+    }
+
+    @Test
+    @DisplayName("Verify that consecutive chat lines are merged up to the limit")
+    void testLinesAreMerged() {
+        final List<Component> received = new ArrayList<>();
+        final BatchedMessageDispatcher dispatcher = BatchedMessageDispatcher.builder()
+                .trigger(this.scheduler)
+                .sender((audience, message) -> received.add(message))
+                .mergeLines(3)
+                .build();
+        final Audience audience = new RecordingAudience("steve", new ArrayList<>());
+        final List<Component> lines = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lines.add(Component.text("line " + i));
+            dispatcher.enqueue(audience, lines.get(i));
+        }
+
+        this.scheduler.tick();
+
+        assertEquals(List.of(Component.join(JoinConfiguration.newlines(), lines.subList(0, 3)),
+                Component.join(JoinConfiguration.newlines(), lines.subList(3, 5))), received);
+    }
+
+    @Test
+    @DisplayName("Verify that a failing send does not drop the messages of other audiences")
+    void testFailureIsIsolated() {
+        final List<String> log = new ArrayList<>();
+        final BatchedMessageDispatcher dispatcher = BatchedMessageDispatcher.builder().build();
+        final Audience broken = new Audience() {
+            @Override
+            public void sendMessage(final Component message) {
+                throw new IllegalStateException("disconnected");
+            }
+        };
+        dispatcher.enqueue(broken, Component.translatable("first"));
+        dispatcher.enqueue(new RecordingAudience("alex", log), Component.translatable("second"));
+
+        assertThrows(IllegalStateException.class, dispatcher::flush);
+        assertEquals(List.of("alex:second"), log);
+        assertEquals(0, dispatcher.pending());
+    }
+
+    @Test
+    @DisplayName("Verify that closing stops the trigger and sends the remaining messages")
+    void testClose() {
+        final List<String> log = new ArrayList<>();
+        final RecordingAudience audience = new RecordingAudience("steve", log);
+        final BatchedMessageDispatcher dispatcher = BatchedMessageDispatcher.builder().trigger(this.scheduler).build();
+        dispatcher.enqueue(audience, Component.translatable("last"));
+
+        dispatcher.close();
+        this.scheduler.tick();
+
+        assertEquals(List.of("steve:last"), log);
+        assertThrows(IllegalStateException.class, () -> dispatcher.enqueue(audience, Component.translatable("late")));
+    }
+
+    @Test
+    @DisplayName("Verify that messages queued while closing are either rejected or sent")
+    void testCloseWhileQueueing() throws InterruptedException {
+        final AtomicInteger sent = new AtomicInteger();
+        final AtomicInteger accepted = new AtomicInteger();
+        final BatchedMessageDispatcher dispatcher = BatchedMessageDispatcher.builder()
+                .sender((audience, message) -> sent.incrementAndGet())
+                .build();
+        final Audience audience = new RecordingAudience("steve", new ArrayList<>());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < 50_000; i++) {
+                        dispatcher.enqueue(audience, Component.text("line"));
+                        accepted.incrementAndGet();
+                    }
+                } catch (final IllegalStateException closed) {
+                    // Rejected after close
+                }
+            });
+        }
+        Thread.sleep(5);
+        dispatcher.close();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(accepted.get(), sent.get());
+        assertEquals(0, dispatcher.pending());
+    }
+
+    private record RecordingAudience(String name, List<String> log) implements Audience {
+
+        @Override
+        public void sendMessage(final Component message) {
+            final String text = message instanceof final TranslatableComponent translatable
+                    ? translatable.key()
+                    : "text";
+            this.log.add(this.name + ":" + text);
+        }
+    }
+}
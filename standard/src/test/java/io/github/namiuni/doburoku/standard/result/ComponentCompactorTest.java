@@ -0,0 +1,188 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.github.namiuni.doburoku.standard.argument.TranslationArgumentTransformer;
+import java.lang.reflect.Parameter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.flattener.FlattenerListener;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ComponentCompactorTest {
+
+    @Test
+    @DisplayName("Verify that compaction shrinks the tree and its serialized form without changing the text")
+    void testCompactionShrinksOutput() {
+        final Component rendered = Component.text("")
+                .append(MiniMessage.miniMessage().deserialize("<gold>Hello </gold><gold>Steve</gold>"))
+                .append(Component.empty())
+                .append(Component.text(", you have "))
+                .append(Component.text("").append(Component.empty()))
+                .append(Component.text("3"))
+                .append(Component.text(" new messages"));
+
+        final Component compacted = ComponentCompactor.compact(rendered);
+
+        final int nodesBefore = nodes(rendered);
+        final int nodesAfter = nodes(compacted);
+        final int jsonBefore = GsonComponentSerializer.gson().serialize(rendered).length();
+        final int jsonAfter = GsonComponentSerializer.gson().serialize(compacted).length();
+
+        assertTrue(nodesAfter < nodesBefore, nodesBefore + " -> " + nodesAfter);
+        assertTrue(jsonAfter < jsonBefore, jsonBefore + " -> " + jsonAfter);
+        assertFalse(hasEmptyText(compacted));
+        assertEquals(
+                PlainTextComponentSerializer.plainText().serialize(rendered),
+                PlainTextComponentSerializer.plainText().serialize(compacted));
+        assertEquals(styledRuns(rendered), styledRuns(compacted));
+    }
+
+    @Test
+    @DisplayName("Verify that translation arguments are compacted in place")
+    void testArgumentsKeepTheirPositions() {
+        final TranslatableComponent translatable = Component.translatable("greeting",
+                Component.empty(),
+                Component.text("Steve").append(Component.empty()).append(Component.text("")),
+                Component.text("plain"));
+
+        final TranslatableComponent compacted = ComponentCompactor.compactArguments(translatable);
+
+        assertEquals(3, compacted.arguments().size());
+        assertEquals(Component.empty(), compacted.arguments().get(0).asComponent());
+        assertEquals(Component.text("Steve"), compacted.arguments().get(1).asComponent());
+        assertTrue(nodes(compacted) < nodes(translatable));
+    }
+
+    @Test
+    @DisplayName("Verify that already compact components are returned as is")
+    void testCompactArgumentsAreKept() {
+        final TranslatableComponent translatable = Component.translatable("greeting", TranslationArgument.numeric(3));
+
+        assertSame(translatable, ComponentCompactor.compactArguments(translatable));
+    }
+
+    @Test
+    @DisplayName("Verify that wrapped renderers return compacted components")
+    void testCompactingRenderer() {
+        final BiFunction<Component, Locale, Component> renderer = ComponentCompactor.compacting(
+                (component, locale) -> Component.text("Hello").append(Component.empty()).append(Component.text("")));
+
+        assertEquals(Component.text("Hello"), renderer.apply(Component.translatable("greeting"), Locale.US));
+    }
+
+    @Test
+    @DisplayName("Verify that wrapped argument transformers receive compacted arguments")
+    void testCompactingArguments() throws NoSuchMethodException {
+        final List<ComponentLike> received = new ArrayList<>();
+        final TranslationArgumentTransformer transformer = ComponentCompactor.compactingArguments((parameter, argument) -> {
+            received.add(argument);
+            return argument;
+        });
+        final Parameter parameter = ComponentCompactorTest.class.getDeclaredMethod("nodes", Component.class).getParameters()[0];
+
+        transformer.transform(parameter, Component.text("Steve").append(Component.empty()).append(Component.text("")));
+
+        assertEquals(List.of(Component.text("Steve")), received);
+    }
+
+    private static int nodes(final Component component) {
+        int nodes = 1;
+        if (component instanceof final TranslatableComponent translatable) {
+            for (final TranslationArgument argument : translatable.arguments()) {
+                if (argument.value() instanceof final Component value) {
+                    nodes += nodes(value);
+                }
+            }
+        }
+        for (final Component child : component.children()) {
+            nodes += nodes(child);
+        }
+        return nodes;
+    }
+
+    // The text of a component split into runs of equal effective style, independent of the tree shape
+    private static List<StyledRun> styledRuns(final Component component) {
+        final List<StyledRun> runs = new ArrayList<>();
+        final Deque<Style> styles = new ArrayDeque<>();
+        styles.push(Style.empty());
+        ComponentFlattener.basic().flatten(component, new FlattenerListener() {
+            @Override
+            public void pushStyle(final Style style) {
+                styles.push(styles.getFirst().merge(style));
+            }
+
+            @Override
+            public void component(final String text) {
+                if (text.isEmpty()) {
+                    return;
+                }
+                final Style style = styles.getFirst();
+                if (!runs.isEmpty() && runs.getLast().style().equals(style)) {
+                    runs.add(new StyledRun(style, runs.removeLast().text() + text));
+                } else {
+                    runs.add(new StyledRun(style, text));
+                }
+            }
+
+            @Override
+            public void popStyle(final Style style) {
+                styles.pop();
+            }
+        });
+        return runs;
+    }
+
+    private static boolean hasEmptyText(final Component component) {
+        for (final Component child : component.children()) {
+            if (child instanceof final TextComponent text && text.content().isEmpty() && child.children().isEmpty()
+                    || hasEmptyText(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record StyledRun(Style style, String text) {
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.translation.Argument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DisplayChangeTrackerTest {
+
+    private final DisplayChangeTracker tracker = DisplayChangeTracker.create(2);
+    private final TranslatableComponentTransformer<Consumer<Audience>> transformer = this.tracker.transformer("action_bar", Audience::sendActionBar);
+
+    @Test
+    @DisplayName("Verify that unchanged messages are sent once per audience")
+    void testUnchangedMessagesAreSkipped() {
+        final RecordingAudience steve = new RecordingAudience();
+        final RecordingAudience alex = new RecordingAudience();
+
+        for (int tick = 0; tick < 20; tick++) {
+            this.send(steve, "hud.coins", 10);
+            this.send(alex, "hud.coins", 10);
+        }
+        this.send(steve, "hud.coins", 11);
+
+        assertEquals(2, steve.received.size());
+        assertEquals(1, alex.received.size());
+    }
+
+    @Test
+    @DisplayName("Verify that methods writing the same slot replace each other's message")
+    void testMethodsShareSlot() throws NoSuchMethodException {
+        final RecordingAudience audience = new RecordingAudience();
+        final Method coins = Hud.class.getMethod("coins", int.class);
+        final Method health = Hud.class.getMethod("health", int.class);
+
+        this.transformer.transform(coins, Component.translatable("hud.coins", Component.text(10))).accept(audience);
+        this.transformer.transform(health, Component.translatable("hud.health", Component.text(20))).accept(audience);
+        this.transformer.transform(coins, Component.translatable("hud.coins", Component.text(10))).accept(audience);
+
+        assertEquals(3, audience.received.size());
+    }
+
+    @Test
+    @DisplayName("Verify that named MiniMessage arguments are compared by value")
+    void testNamedArgumentsCompareByValue() {
+        final RecordingAudience audience = new RecordingAudience();
+        final TranslatableComponent first = Component.translatable("hud.coins", Argument.component("coins", Component.text(10)));
+        final TranslatableComponent second = Component.translatable("hud.coins", Argument.component("coins", Component.text(10)));
+
+        assertTrue(this.tracker.update(audience, "action_bar", first));
+        assertFalse(this.tracker.update(audience, "action_bar", second));
+    }
+
+    @Test
+    @DisplayName("Verify that forgetting an audience sends its next message again")
+    void testForget() {
+        final RecordingAudience audience = new RecordingAudience();
+        this.send(audience, "hud.coins", 10);
+
+        this.tracker.forget(audience);
+        this.send(audience, "hud.coins", 10);
+
+        assertEquals(2, audience.received.size());
+        assertEquals(1, this.tracker.size());
+    }
+
+    @Test
+    @DisplayName("Verify that each audience remembers a bounded number of slots")
+    void testSlotsAreBounded() {
+        final RecordingAudience audience = new RecordingAudience();
+        final TranslatableComponent message = Component.translatable("hud.coins", Component.text(10));
+
+        assertTrue(this.tracker.update(audience, "action_bar", message));
+        assertTrue(this.tracker.update(audience, "boss_bar", message));
+        assertTrue(this.tracker.update(audience, "sidebar", message));
+
+        assertFalse(this.tracker.update(audience, "sidebar", message));
+        assertTrue(this.tracker.update(audience, "action_bar", message));
+    }
+
+    @Test
+    @DisplayName("Verify that equal audiences share their slots")
+    void testEqualAudiencesShareSlots() {
+        final TranslatableComponent message = Component.translatable("hud.coins", Component.text(10));
+        final List<Audience> viewers = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            viewers.add(new Viewer("steve"));
+        }
+
+        assertTrue(this.tracker.update(viewers.getFirst(), "action_bar", message));
+        for (final Audience viewer : viewers.subList(1, viewers.size())) {
+            assertFalse(this.tracker.update(viewer, "action_bar", message));
+        }
+        assertEquals(1, this.tracker.size());
+
+        this.tracker.forget(viewers.getLast());
+        assertEquals(0, this.tracker.size());
+    }
+
+    private void send(final Audience audience, final String key, final int coins) {
+        this.transformer.transform(null, Component.translatable(key, Component.text(coins))).accept(audience);
+    }
+
+    private interface Hud {
+
+        Consumer<Audience> coins(int coins);
+
+        Consumer<Audience> health(int health);
+    }
+
+    private record Viewer(String name) implements Audience {
+    }
+
+    private static final class RecordingAudience implements Audience {
+
+        private final List<Component> received = new ArrayList<>();
+
+        @Override
+        public void sendActionBar(final Component message) {
+            this.received.add(message);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.Lines;
+import io.github.namiuni.doburoku.standard.DoburokuStandard;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LinesResultTest {
+
+    private final AtomicInteger renders = new AtomicInteger();
+    private final LoreService service = DoburokuStandard.of(LoreService.class)
+            .argument(registry -> {
+                registry.plus(String.class, (parameter, value) -> {
+                    this.renders.incrementAndGet();
+                    return Component.text(value);
+                });
+            })
+            .brew();
+
+    @Test
+    @DisplayName("Verify that every line is rendered from arguments rendered once")
+    void testLinesShareArguments() {
+        final List<Component> lore = this.service.lore("Excalibur", "Arthur");
+
+        assertEquals(2, this.renders.get());
+        assertEquals(List.of(
+                Component.translatable("item.lore.1", Component.text("Excalibur"), Component.text("Arthur")),
+                Component.translatable("item.lore.2", Component.text("Excalibur"), Component.text("Arthur")),
+                Component.translatable("item.lore.3", Component.text("Excalibur"), Component.text("Arthur"))
+        ), lore);
+    }
+
+    @Test
+    @DisplayName("Verify error when a multi-line method does not return a list")
+    void testWrongReturnType() {
+        assertThrows(IllegalStateException.class, () -> this.service.single("Excalibur"));
+    }
+
+    @Test
+    @DisplayName("Verify error when a multi-line method returns a list of another element type")
+    void testWrongElementType() {
+        assertThrows(IllegalStateException.class, () -> this.service.plain("Excalibur"));
+    }
+
+    interface LoreService {
+
+        @Key("item.lore")
+        @Lines(3)
+        List<Component> lore(String name, String owner);
+
+        @Key("item.name")
+        @Lines(2)
+        Component single(String name);
+
+        @Key("item.description")
+        @Lines(2)
+        List<String> plain(String name);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import io.github.namiuni.doburoku.annotation.annotations.Coalesce;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MessageCoalescerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<TranslatableComponent> sent = new ArrayList<>();
+    private final MessageCoalescer coalescer = MessageCoalescer.builder()
+            .clock(this.clock::get)
+            .sender((audience, message) -> this.sent.add((TranslatableComponent) message))
+            .build();
+    private final Audience audience = new Audience() {
+    };
+
+    @Test
+    @DisplayName("Verify that repeats within the window are dropped")
+    void testDrop() throws NoSuchMethodException {
+        for (int i = 0; i < 10; i++) {
+            this.send("damage", "zombie");
+        }
+        this.send("damage", "skeleton");
+        this.clock.addAndGet(SECOND);
+        this.send("damage", "zombie");
+
+        assertEquals(3, this.sent.size());
+        assertEquals(2, this.coalescer.size());
+    }
+
+    @Test
+    @DisplayName("Verify that counted repeats are sent as one message when the window ends")
+    void testCount() throws NoSuchMethodException {
+        for (int i = 0; i < 5; i++) {
+            this.send("pickup", "diamond");
+        }
+        assertEquals(1, this.sent.size());
+        assertEquals(List.of(Component.text("diamond"), Component.text(1)), arguments(this.sent.getFirst()));
+
+        this.clock.addAndGet(SECOND);
+        assertEquals(1, this.coalescer.flush());
+
+        assertEquals(List.of(Component.text("diamond"), Component.text(4)), arguments(this.sent.get(1)));
+        assertEquals(0, this.coalescer.size());
+    }
+
+    @Test
+    @DisplayName("Verify that repeats with other arguments collapse into the latest when not coalescing by arguments")
+    void testAnyArguments() throws NoSuchMethodException {
+        this.send("hopper", "iron");
+        this.send("hopper", "gold");
+        this.send("hopper", "coal");
+        this.coalescer.close();
+
+        assertEquals(2, this.sent.size());
+        assertEquals(List.of(Component.text("coal"), Component.text(2)), arguments(this.sent.get(1)));
+    }
+
+    @Test
+    @DisplayName("Verify that methods without the annotation are never throttled")
+    void testUnannotated() throws NoSuchMethodException {
+        for (int i = 0; i < 5; i++) {
+            this.send("chat", "hello");
+        }
+
+        assertEquals(5, this.sent.size());
+        assertEquals(0, this.coalescer.size());
+    }
+
+    @Test
+    @DisplayName("Verify that windows of many audiences are tracked independently and released")
+    void testManyAudiences() throws NoSuchMethodException {
+        final Method method = Notifications.class.getMethod("damage", String.class);
+        final TranslatableComponent message = Component.translatable("damage", Component.text("zombie"));
+        for (int i = 0; i < 5_000; i++) {
+            final Audience audience = new Audience() {
+            };
+            this.coalescer.transformer().transform(method, message).accept(audience);
+            this.coalescer.transformer().transform(method, message).accept(audience);
+        }
+
+        assertEquals(5_000, this.sent.size());
+        assertEquals(5_000, this.coalescer.size());
+        this.clock.addAndGet(SECOND);
+        this.coalescer.flush();
+        assertEquals(0, this.coalescer.size());
+    }
+
+    @Test
+    @DisplayName("Verify that equal audiences share their windows")
+    void testEqualAudiencesShareWindows() throws NoSuchMethodException {
+        final Method method = Notifications.class.getMethod("damage", String.class);
+        final TranslatableComponent message = Component.translatable("damage", Component.text("zombie"));
+        for (int i = 0; i < 64; i++) {
+            this.coalescer.transformer().transform(method, message).accept(new Viewer("steve"));
+        }
+
+        assertEquals(1, this.sent.size());
+        assertEquals(1, this.coalescer.size());
+    }
+
+    private void send(final String name, final String argument) throws NoSuchMethodException {
+        final Method method = Notifications.class.getMethod(name, String.class);
+        this.coalescer.transformer()
+                .transform(method, Component.translatable(name, Component.text(argument)))
+                .accept(this.audience);
+    }
+
+    private static List<Object> arguments(final TranslatableComponent component) {
+        return List.copyOf(MessageFingerprint.of(component).arguments());
+    }
+
+    private record Viewer(String name) implements Audience {
+    }
+
+    interface Notifications {
+
+        @Coalesce(window = 500)
+        void damage(String attacker);
+
+        @Coalesce(window = 500, mode = Coalesce.Mode.COUNT)
+        void pickup(String item);
+
+        @Coalesce(window = 1, unit = TimeUnit.SECONDS, mode = Coalesce.Mode.COUNT, byArguments = false)
+        void hopper(String item);
+
+        void chat(String message);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.standard.DoburokuStandard;
+import io.github.namiuni.doburoku.standard.argument.MiniMessageArgumentTransformer;
+import io.github.namiuni.doburoku.standard.translation.TranslationSource;
+import io.github.namiuni.doburoku.standard.translation.TranslationSourceTranslator;
+import java.util.Locale;
+import java.util.function.IntFunction;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares rendering {@code String} methods through {@link PlainTextRenderer} with rendering and
+ * serializing the translatable component.
+ *
+ * <p>Run with {@code ./gradlew :doburoku-standard:benchmark}.</p>
+ */
+@Tag("benchmark")
+class PlainTextRendererBenchmark {
+
+    private static final String TEMPLATE = "<gray>[<gold>Shop</gold>]</gray> <player_name> bought <amount>x <item> for <price> coins.";
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 500_000;
+
+    @Test
+    @DisplayName("Render 500k plain text messages")
+    void render() {
+        final TranslationSource source = (key, locale) -> key.equals("shop.bought") ? TEMPLATE : null;
+        final TranslationSourceTranslator translator = TranslationSourceTranslator.of(
+                net.kyori.adventure.key.Key.key("doburoku", "benchmark"), source);
+        final MiniMessageArgumentTransformer transformer = MiniMessageArgumentTransformer.create();
+
+        final ShopService component = DoburokuStandard.of(ShopService.class)
+                .argument(registry -> {
+                }, transformer)
+                .result(registry -> registry.plus(String.class, (method, message) ->
+                        PlainTextComponentSerializer.plainText().serialize(GlobalTranslator.render(message, Locale.US))))
+                .brew();
+        final ShopService plain = DoburokuStandard.of(ShopService.class)
+                .argument(registry -> {
+                }, transformer)
+                .result(registry -> registry.plainText(PlainTextRenderer.of(source, transformer)))
+                .brew();
+
+        GlobalTranslator.translator().addSource(translator);
+        try {
+            assertEquals(component.bought(Locale.US, "Steve", 3, "Diamond", 120), plain.bought(Locale.US, "Steve", 3, "Diamond", 120));
+
+            final double componentNanos = measure(i -> component.bought(Locale.US, "Steve", i, "Diamond", i * 40));
+            final double plainNanos = measure(i -> plain.bought(Locale.US, "Steve", i, "Diamond", i * 40));
+
+            System.out.printf("[PlainTextRenderer] component path: %.1f ns/op, plain text path: %.1f ns/op (%.1fx)%n",
+                    componentNanos, plainNanos, componentNanos / plainNanos);
+        } finally {
+            GlobalTranslator.translator().removeSource(translator);
+        }
+    }
+
+    private static double measure(final IntFunction<String> message) {
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            checksum += message.apply(i).length();
+        }
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            checksum += message.apply(i).length();
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        if (checksum == 0) {
+            throw new AssertionError("No output");
+        }
+        return (double) elapsed / ITERATIONS;
+    }
+
+    interface ShopService {
+
+        @Key("shop.bought")
+        String bought(Locale locale, String playerName, int amount, String item, int price);
+    }
+}
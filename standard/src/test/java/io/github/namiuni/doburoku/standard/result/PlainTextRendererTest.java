@@ -0,0 +1,197 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.Name;
+import io.github.namiuni.doburoku.annotation.annotations.Plural;
+import io.github.namiuni.doburoku.standard.DoburokuStandard;
+import io.github.namiuni.doburoku.standard.argument.MiniMessageArgumentTransformer;
+import io.github.namiuni.doburoku.standard.translation.TranslationSource;
+import io.github.namiuni.doburoku.standard.translation.TranslationSourceTranslator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlainTextRendererTest {
+
+    private static final Map<Locale, Map<String, String>> MESSAGES = Map.of(
+            Locale.ROOT, Map.of(
+                    "plain.greeting", "<gold>Hello <player_name></gold>, you have <arg:2> new <b>messages</b>!<newline>Bye <player_name>.",
+                    "plain.nested", "<hover:show_text:'<world>'>Inbox</hover> of <world>: <lang:plain.inbox:'<arg:1>'>",
+                    "plain.inbox", "<arg:0> unread",
+                    "plain.stats", "<player_name>: <stats_kills> kills, best streak <arg:4>",
+                    "plain.apples.one", "<arg:1> apple",
+                    "plain.apples.other", "<arg:1> apples",
+                    "plain.glyph", "\uE000 <arg:1> \uE000\uE002\uE000x \uE000"
+            ),
+            Locale.JAPAN, Map.of(
+                    "plain.greeting", "<player_name>さん、新着メッセージが<arg:2>件あります"
+            )
+    );
+    private static final TranslationSource SOURCE = (key, locale) -> MESSAGES.getOrDefault(locale, Map.of()).get(key);
+    private static final TranslationSourceTranslator TRANSLATOR = TranslationSourceTranslator.of(
+            net.kyori.adventure.key.Key.key("doburoku", "plain"), SOURCE);
+
+    private final MiniMessageArgumentTransformer transformer = MiniMessageArgumentTransformer.create();
+    private final PlainTextRenderer renderer = PlainTextRenderer.of(SOURCE, this.transformer);
+    private final PlainService service = DoburokuStandard.of(PlainService.class)
+            .argument(registry -> {
+            }, this.transformer)
+            .result(registry -> registry
+                    .plainText(this.renderer)
+                    .plus(String.class, (method, component) -> "component:" + component.key()))
+            .brew();
+
+    @BeforeAll
+    static void register() {
+        GlobalTranslator.translator().addSource(TRANSLATOR);
+    }
+
+    @AfterAll
+    static void unregister() {
+        GlobalTranslator.translator().removeSource(TRANSLATOR);
+    }
+
+    @Test
+    @DisplayName("Verify that the plain text matches the rendered and serialized component")
+    void testMatchesComponentPath() {
+        for (final Locale locale : new Locale[] {Locale.US, Locale.JAPAN}) {
+            assertEquals(
+                    plain(this.service.greetingComponent(locale, "Steve", 3), locale),
+                    this.service.greeting(locale, "Steve", 3));
+        }
+        assertEquals("Hello Steve, you have 3 new messages!\nBye Steve.", this.service.greeting(Locale.US, "Steve", 3));
+    }
+
+    @Test
+    @DisplayName("Verify that component arguments and nested translations are flattened like the component path")
+    void testComponentArguments() {
+        final Component world = Component.text("Over").append(Component.translatable("plain.inbox", Component.text(7)));
+
+        assertEquals(
+                plain(this.service.nestedComponent(Locale.US, world, 5), Locale.US),
+                this.service.nested(Locale.US, world, 5));
+    }
+
+    @Test
+    @DisplayName("Verify that record components are named and positioned like the component path")
+    void testRecordArguments() {
+        final PlayerStats stats = new PlayerStats(12, 5);
+
+        assertEquals(
+                plain(this.service.statsComponent(Locale.US, "Steve", stats), Locale.US),
+                this.service.stats(Locale.US, "Steve", stats));
+        assertEquals("Steve: 12 kills, best streak 5", this.service.stats(Locale.US, "Steve", stats));
+    }
+
+    @Test
+    @DisplayName("Verify that @Plural methods render the suffixed key of their plural form")
+    void testPluralForms() {
+        assertEquals("1 apple", this.service.apples(Locale.US, 1));
+        assertEquals("3 apples", this.service.apples(Locale.US, 3));
+        assertEquals("1 apples", this.service.apples(Locale.JAPAN, 1));
+    }
+
+    @Test
+    @DisplayName("Verify that private use area glyphs in messages are kept as text")
+    void testPrivateUseGlyphs() {
+        assertEquals("\uE000 Steve \uE000\uE002\uE000x \uE000", this.service.glyph(Locale.US, "Steve"));
+        assertEquals(plain(this.service.glyphComponent(Locale.US, "Steve"), Locale.US), this.service.glyph(Locale.US, "Steve"));
+    }
+
+    @Test
+    @DisplayName("Verify that unknown keys and methods without a locale take the component path")
+    void testFallbacks() {
+        assertEquals(plain(Component.translatable("plain.unknown"), Locale.US), this.service.unknown(Locale.US));
+        assertEquals("component:plain.fallback", this.service.withoutLocale());
+    }
+
+    @Test
+    @DisplayName("Verify that invalidation recompiles only the changed keys")
+    void testInvalidation() {
+        this.service.greeting(Locale.US, "Steve", 1);
+        this.service.greeting(Locale.JAPAN, "Steve", 1);
+        final String before = this.service.greeting(Locale.US, "Steve", 1);
+
+        this.renderer.invalidate(Locale.ROOT, Set.of("plain.greeting"));
+
+        assertEquals(0, this.renderer.size());
+        final String after = this.service.greeting(Locale.US, "Steve", 1);
+        assertEquals(before, after);
+        assertNotSame(before, after);
+    }
+
+    private static String plain(final Component component, final Locale locale) {
+        return PlainTextComponentSerializer.plainText().serialize(GlobalTranslator.render(component, locale));
+    }
+
+    interface PlainService {
+
+        @Key("plain.greeting")
+        String greeting(Locale locale, String playerName, int count);
+
+        @Key("plain.greeting")
+        Component greetingComponent(Locale locale, String playerName, int count);
+
+        @Key("plain.nested")
+        String nested(Locale locale, @Name("world") Component world, int unread);
+
+        @Key("plain.nested")
+        Component nestedComponent(Locale locale, @Name("world") Component world, int unread);
+
+        @Key("plain.stats")
+        String stats(Locale locale, String playerName, PlayerStats stats);
+
+        @Key("plain.stats")
+        Component statsComponent(Locale locale, String playerName, PlayerStats stats);
+
+        @Key("plain.apples")
+        String apples(Locale locale, @Plural int count);
+
+        @Key("plain.glyph")
+        String glyph(Locale locale, String name);
+
+        @Key("plain.glyph")
+        Component glyphComponent(Locale locale, String name);
+
+        @Key("plain.unknown")
+        String unknown(Locale locale);
+
+        @Key("plain.fallback")
+        String withoutLocale();
+    }
+
+    record PlayerStats(int kills, int killStreak) {
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.translation.Argument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SerializedMessageCacheTest {
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @Test
+    @DisplayName("Verify that repeated messages are rendered and serialized once per locale and format")
+    void testRepeatedMessageIsServedFromCache() {
+        final SerializedMessageCache cache = this.cache(64);
+
+        final String first = this.message(cache, "greeting", "Steve").legacy(Locale.US);
+        final String second = this.message(cache, "greeting", "Steve").legacy(Locale.US);
+        this.message(cache, "greeting", "Steve").legacy(Locale.JAPAN);
+        this.message(cache, "greeting", "Alex").legacy(Locale.US);
+
+        assertSame(first, second);
+        assertEquals("greeting@en_US", first);
+        assertEquals(3, this.renders.get());
+    }
+
+    @Test
+    @DisplayName("Verify that invalidation drops only the changed keys of the affected language")
+    void testInvalidationIsPerKey() {
+        final SerializedMessageCache cache = this.cache(64);
+        this.message(cache, "greeting", "Steve").legacy(Locale.US);
+        this.message(cache, "greeting", "Steve").legacy(Locale.JAPAN);
+        this.message(cache, "farewell", "Steve").legacy(Locale.US);
+
+        cache.invalidate(Locale.of("en"), Set.of("greeting"));
+
+        assertEquals(2, cache.size());
+        this.message(cache, "greeting", "Steve").legacy(Locale.US);
+        assertEquals(4, this.renders.get());
+    }
+
+    @Test
+    @DisplayName("Verify that messages with named MiniMessage arguments are served from the cache")
+    void testNamedArgumentsAreServedFromCache() {
+        final SerializedMessageCache cache = this.cache(64);
+
+        final String first = this.namedMessage(cache, "greeting", "Steve").legacy(Locale.US);
+        final String second = this.namedMessage(cache, "greeting", "Steve").legacy(Locale.US);
+        this.namedMessage(cache, "greeting", "Alex").legacy(Locale.US);
+
+        assertSame(first, second);
+        assertEquals(2, this.renders.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Verify that invalidating a line or plural form key drops the message of its base key")
+    void testInvalidationOfSuffixedKeys() {
+        final SerializedMessageCache cache = this.cache(64);
+        this.message(cache, "help", "Steve").legacy(Locale.US);
+        this.message(cache, "items", "Steve").legacy(Locale.US);
+        this.message(cache, "farewell", "Steve").legacy(Locale.US);
+
+        cache.invalidate(Locale.US, Set.of("help.2", "items.one"));
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Verify that the cache stays within its maximum size")
+    void testCacheIsBounded() {
+        final SerializedMessageCache cache = this.cache(32);
+        for (int i = 0; i < 1_000; i++) {
+            this.message(cache, "greeting", "player" + i).legacy(Locale.US);
+        }
+
+        assertTrue(cache.size() <= 32, "size: " + cache.size());
+    }
+
+    private SerializedMessage message(final SerializedMessageCache cache, final String key, final String argument) {
+        final TranslatableComponent component = Component.translatable(key, Component.text(argument));
+        return cache.transformer().transform(null, component);
+    }
+
+    private SerializedMessage namedMessage(final SerializedMessageCache cache, final String key, final String argument) {
+        final TranslatableComponent component = Component.translatable(key, Argument.component("player", Component.text(argument)));
+        return cache.transformer().transform(null, component);
+    }
+
+    private SerializedMessageCache cache(final int maximumSize) {
+        return SerializedMessageCache.create(maximumSize, (component, locale) -> {
+            this.renders.incrementAndGet();
+            return Component.text(((TranslatableComponent) component).key() + "@" + locale);
+        });
+    }
+}
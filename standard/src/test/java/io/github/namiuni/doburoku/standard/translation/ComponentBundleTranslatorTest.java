@@ -0,0 +1,104 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ComponentBundleTranslatorTest {
+
+    private ComponentBundleTranslator translator;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Path directory = Files.createTempDirectory("doburoku-bundles");
+        write(directory.resolve("messages.components.json"), Map.of("farewell", Component.text("Bye")));
+        write(directory.resolve("messages_en_US.components.json"), Map.of(
+                "greeting", Component.text("Hello ").append(Component.translatable("doburoku.slot.0")),
+                "profile", Component.text("Profile").hoverEvent(HoverEvent.showText(
+                        Component.text("Owner: ").append(Component.translatable("doburoku.slot.0"))))
+        ));
+
+        final ClassLoader loader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null);
+        this.translator = ComponentBundleTranslator.of(Key.key("doburoku", "test"), loader, "messages");
+    }
+
+    @Test
+    @DisplayName("Verify that slots are replaced by the translation arguments")
+    void testSlotsAreFilled() {
+        final Component translated = this.translator.translate(
+                Component.translatable("greeting", Component.text("Steve")), Locale.US);
+
+        assertEquals(Component.text("Hello ").append(Component.text("Steve")), translated);
+    }
+
+    @Test
+    @DisplayName("Verify that slots inside hover events are replaced by the translation arguments")
+    void testHoverSlotsAreFilled() {
+        final Component translated = this.translator.translate(
+                Component.translatable("profile", Component.text("Steve")), Locale.US);
+
+        assertEquals(Component.text("Profile").hoverEvent(HoverEvent.showText(
+                Component.text("Owner: ").append(Component.text("Steve")))), translated);
+    }
+
+    @Test
+    @DisplayName("Verify that slots without a translation argument are left empty")
+    void testMissingArgumentsAreEmpty() {
+        final Component translated = this.translator.translate(Component.translatable("greeting"), Locale.US);
+
+        assertEquals(Component.text("Hello ").children(List.of(Component.empty())), translated);
+    }
+
+    @Test
+    @DisplayName("Verify that templates fall back to the root bundle")
+    void testFallbackToRoot() {
+        assertEquals(Component.text("Bye"), this.translator.translate(Component.translatable("farewell"), Locale.US));
+        assertNull(this.translator.translate(Component.translatable("greeting"), Locale.JAPAN));
+    }
+
+    private static void write(final Path file, final Map<String, Component> templates) throws IOException {
+        final String json = templates.entrySet().stream()
+                .map(entry -> "\"%s\": %s".formatted(entry.getKey(), GsonComponentSerializer.gson().serialize(entry.getValue())))
+                .collect(Collectors.joining(", ", "{", "}"));
+        Files.writeString(file, json, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.Plural;
+import io.github.namiuni.doburoku.annotation.annotations.ResourceBundle;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LazyTranslationSourceTest {
+
+    private final List<String> events = new ArrayList<>();
+    private ClassLoader loader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Path directory = Files.createTempDirectory("doburoku-bundles");
+        write(directory.resolve("alpha.properties"), "alpha.greeting=Root\n");
+        write(directory.resolve("alpha_en.properties"), "alpha.greeting=Hi\n");
+        write(directory.resolve("alpha_en_US.properties"), """
+                alpha.greeting=Hello
+                alpha.items=some items
+                alpha.items.one=item
+                alpha.items.other=items
+                alpha.shop.open=Open
+                """);
+        write(directory.resolve("alpha_ja_JP.properties"), "alpha.greeting=こんにちは\n");
+        write(directory.resolve("beta_en_US.properties"), "beta.greeting=Hello from beta\n");
+        write(directory.resolve("gamma_en_US.properties"), "gamma.greeting=Hello from gamma\n");
+        this.loader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null);
+    }
+
+    @Test
+    @DisplayName("Verify that only the segment containing an indexed key is loaded")
+    void testIndexedKeyLoadsSingleSegment() {
+        final LazyTranslationSource source = this.source(Long.MAX_VALUE);
+        assertEquals(List.of(), source.segments());
+
+        assertEquals("Hello", source.message("alpha.greeting", Locale.US));
+        assertEquals(List.of("loaded alpha_en_US"), this.events);
+
+        assertEquals("Hello from beta", source.message("beta.greeting", Locale.US));
+        assertEquals("Hello from gamma", source.message("gamma.greeting", Locale.US));
+        assertEquals(List.of("loaded alpha_en_US", "loaded beta_en_US", "loaded gamma_en_US"), this.events);
+    }
+
+    @Test
+    @DisplayName("Verify that the plural forms of @Plural methods are indexed")
+    void testPluralKeysAreIndexed() {
+        final LazyTranslationSource source = this.source(Long.MAX_VALUE);
+
+        assertEquals("item", source.message("alpha.items.one", Locale.US));
+        assertEquals("items", source.message("alpha.items.other", Locale.US));
+        assertEquals(List.of("loaded alpha_en_US"), this.events);
+    }
+
+    @Test
+    @DisplayName("Verify that the unsuffixed key of @Plural methods is indexed for the plural fallback")
+    void testPluralBaseKeyIsIndexed() {
+        final LazyTranslationSource source = this.source(Long.MAX_VALUE);
+
+        assertEquals("some items", source.message("alpha.items", Locale.US));
+        assertEquals(List.of("loaded alpha_en_US"), this.events);
+    }
+
+    @Test
+    @DisplayName("Verify that child interfaces without their own @ResourceBundle are indexed to the parent bundle")
+    void testChildKeysAreIndexedToParentBundle() {
+        final LazyTranslationSource source = this.source(Long.MAX_VALUE);
+
+        assertEquals("Open", source.message("alpha.shop.open", Locale.US));
+        assertEquals(List.of("loaded alpha_en_US"), this.events);
+    }
+
+    @Test
+    @DisplayName("Verify that locales outside the retained set are evicted and reloaded on demand")
+    void testRetainEvictsUnusedLocales() {
+        final LazyTranslationSource source = this.source(Long.MAX_VALUE);
+        source.message("alpha.greeting", Locale.US);
+        source.message("alpha.greeting", Locale.JAPAN);
+
+        source.retain(List.of(Locale.JAPAN));
+
+        assertEquals(List.of("loaded alpha_en_US", "loaded alpha_ja_JP", "evicted alpha_en_US"), this.events);
+        assertEquals("Hello", source.message("alpha.greeting", Locale.US));
+        assertEquals("loaded alpha_en_US", this.events.getLast());
+    }
+
+    @Test
+    @DisplayName("Verify that retaining a variant locale keeps its whole fallback chain")
+    void testRetainKeepsFallbackChain() {
+        final LazyTranslationSource source = this.source(Long.MAX_VALUE);
+        final Locale variant = Locale.of("en", "US", "x");
+        source.message("alpha.greeting", Locale.US);
+        source.message("alpha.greeting", Locale.ENGLISH);
+
+        source.retain(List.of(variant));
+
+        assertEquals(List.of("loaded alpha_en_US", "loaded alpha_en"), this.events);
+    }
+
+    @Test
+    @DisplayName("Verify that the least recently used locale is evicted when the budget is exceeded")
+    void testMemoryBudgetEvictsLeastRecentlyUsedLocale() {
+        final LazyTranslationSource source = this.source(200);
+        source.message("alpha.greeting", Locale.US);
+        source.message("alpha.greeting", Locale.JAPAN);
+
+        assertTrue(this.events.contains("evicted alpha_en_US"), this.events.toString());
+        assertEquals(1, source.segments().size());
+        assertTrue(source.estimatedBytes() <= 200);
+    }
+
+    @Test
+    @DisplayName("Verify that the fallback chain of the loading locale is not evicted")
+    void testMemoryBudgetKeepsFallbackChain() {
+        final LazyTranslationSource source = this.source(1);
+        source.message("alpha.greeting", Locale.ENGLISH);
+        source.message("alpha.greeting", Locale.US);
+
+        assertEquals(List.of("loaded alpha_en", "loaded alpha_en_US"), this.events);
+
+        source.message("alpha.greeting", Locale.JAPAN);
+
+        assertTrue(this.events.contains("evicted alpha_en"), this.events.toString());
+        assertTrue(this.events.contains("evicted alpha_en_US"), this.events.toString());
+    }
+
+    private LazyTranslationSource source(final long memoryBudget) {
+        return LazyTranslationSource.builder(this.loader)
+                .service(AlphaService.class)
+                .bundle("beta")
+                .memoryBudget(memoryBudget)
+                .listener(new LazyTranslationSource.SegmentListener() {
+                    @Override
+                    public void loaded(final LazyTranslationSource.Segment segment) {
+                        LazyTranslationSourceTest.this.events.add("loaded " + segment.baseName() + "_" + segment.locale());
+                    }
+
+                    @Override
+                    public void evicted(final LazyTranslationSource.Segment segment) {
+                        LazyTranslationSourceTest.this.events.add("evicted " + segment.baseName() + "_" + segment.locale());
+                    }
+                })
+                .build();
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    @ResourceBundle(baseName = "alpha")
+    public interface AlphaService {
+
+        @Key("alpha.greeting")
+        void greeting();
+
+        @Key("alpha.items")
+        void items(@Plural int count);
+
+        GammaService gamma();
+
+        ShopService shop();
+
+        interface ShopService {
+
+            @Key("alpha.shop.open")
+            void open();
+        }
+
+        @ResourceBundle(baseName = "gamma")
+        interface GammaService {
+
+            @Key("gamma.greeting")
+            void greeting();
+        }
+    }
+}
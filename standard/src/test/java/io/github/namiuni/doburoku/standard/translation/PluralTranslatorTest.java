@@ -0,0 +1,144 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import io.github.namiuni.doburoku.annotation.PluralCategory;
+import io.github.namiuni.doburoku.annotation.PluralRules;
+import io.github.namiuni.doburoku.annotation.annotations.Key;
+import io.github.namiuni.doburoku.annotation.annotations.Plural;
+import io.github.namiuni.doburoku.standard.DoburokuStandard;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import net.kyori.adventure.translation.Translator;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PluralTranslatorTest {
+
+    private static final Locale RUSSIAN = Locale.of("ru", "RU");
+
+    private final ItemService service = DoburokuStandard.of(ItemService.class).brew();
+    private final PluralTranslator translator = PluralTranslator.of(new MapTranslator(Map.of(
+            "items.one", "item",
+            "items.other", "items",
+            "items.few", "predmeta",
+            "items.many", "predmetov",
+            "greeting", "hello",
+            "score", "score",
+            "legacy", "legacy"
+    )));
+
+    @Test
+    @DisplayName("Verify that the count selects the form of the locale")
+    void testFormIsSelectedPerLocale() {
+        assertEquals(Component.text("item"), this.translate(1, Locale.US));
+        assertEquals(Component.text("items"), this.translate(5, Locale.US));
+        assertEquals(Component.text("item"), this.translate(21, RUSSIAN));
+        assertEquals(Component.text("predmeta"), this.translate(22, RUSSIAN));
+        assertEquals(Component.text("predmetov"), this.translate(11, RUSSIAN));
+    }
+
+    @Test
+    @DisplayName("Verify that a missing form falls back to the other form")
+    void testFallbackToOther() {
+        assertEquals(Component.text("items"), this.translate(0, Locale.of("ar", "SA")));
+    }
+
+    @Test
+    @DisplayName("Verify that components without a count are passed through")
+    void testNonPluralComponents() {
+        assertEquals(Component.text("hello"), this.translator.translate(Component.translatable("greeting"), Locale.US));
+        assertNull(this.translator.translate(Component.translatable("items"), Locale.US));
+    }
+
+    @Test
+    @DisplayName("Verify that numeric arguments of messages without a plural count do not select forms")
+    void testNumericArgumentOnNonPluralKey() {
+        assertEquals(Component.text("score"), this.translator.translate(
+                Component.translatable("score", TranslationArgument.numeric(5)), Locale.US));
+    }
+
+    @Test
+    @DisplayName("Verify that plural messages without suffixed keys fall back to the unsuffixed key")
+    void testFallbackToUnsuffixedKey() {
+        assertEquals(Component.text("legacy"), this.translator.translate(
+                Component.translatable("legacy", PluralCount.argument(3)), Locale.US));
+    }
+
+    @Test
+    @DisplayName("Verify the integer plural rules of languages with several forms")
+    void testRules() {
+        final Locale polish = Locale.of("pl", "PL");
+        assertEquals(PluralCategory.ONE, PluralRules.of(polish).select(1));
+        assertEquals(PluralCategory.FEW, PluralRules.of(polish).select(22));
+        assertEquals(PluralCategory.MANY, PluralRules.of(polish).select(12));
+        assertEquals(PluralCategory.MANY, PluralRules.of(polish).select(21));
+
+        final Locale arabic = Locale.of("ar", "SA");
+        assertEquals(PluralCategory.ZERO, PluralRules.of(arabic).select(0));
+        assertEquals(PluralCategory.TWO, PluralRules.of(arabic).select(2));
+        assertEquals(PluralCategory.FEW, PluralRules.of(arabic).select(103));
+        assertEquals(PluralCategory.MANY, PluralRules.of(arabic).select(111));
+        assertEquals(PluralCategory.OTHER, PluralRules.of(arabic).select(100));
+
+        assertEquals(PluralCategory.OTHER, PluralRules.of(Locale.JAPAN).select(1));
+        assertEquals(PluralCategory.ONE, PluralRules.of(Locale.US).select(-1));
+    }
+
+    private @Nullable Component translate(final int count, final Locale locale) {
+        return this.translator.translate((TranslatableComponent) this.service.items(count), locale);
+    }
+
+    interface ItemService {
+
+        @Key("items")
+        Component items(@Plural int count);
+    }
+
+    private record MapTranslator(Map<String, String> messages) implements Translator {
+
+        @Override
+        public net.kyori.adventure.key.Key name() {
+            return net.kyori.adventure.key.Key.key("doburoku", "test");
+        }
+
+        @Override
+        public @Nullable MessageFormat translate(final String key, final Locale locale) {
+            return null;
+        }
+
+        @Override
+        public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+            final String message = this.messages.get(component.key());
+            return message == null ? null : Component.text(message);
+        }
+    }
+}
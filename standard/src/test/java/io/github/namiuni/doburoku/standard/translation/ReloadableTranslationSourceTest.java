@@ -0,0 +1,127 @@
+/*
+ * This file is part of doburoku, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 Namiu (Unitarou)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.namiuni.doburoku.standard.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReloadableTranslationSourceTest {
+
+    @Test
+    @DisplayName("Verify that a reload reports only the keys that changed")
+    void testReloadReportsChangedKeys() throws IOException {
+        final Path directory = Files.createTempDirectory("doburoku-bundles");
+        write(directory.resolve("messages_en_US.properties"), "same=Same\nchanged=Before\nremoved=Removed\n");
+        write(directory.resolve("messages.properties"), "root=Root\n");
+
+        final ReloadableTranslationSource source = ReloadableTranslationSource.load(directory, "messages");
+        final List<Set<String>> invalidated = new ArrayList<>();
+        source.addListener((locale, keys) -> {
+            assertEquals(Locale.US, locale);
+            invalidated.add(keys);
+        });
+        final String same = source.message("same", Locale.US);
+
+        write(directory.resolve("messages_en_US.properties"), "same=Same\nchanged=After\nadded=Added\n");
+        source.reload();
+
+        assertEquals(List.of(Set.of("changed", "removed", "added")), invalidated);
+        assertSame(same, source.message("same", Locale.US));
+        assertEquals("After", source.message("changed", Locale.US));
+        assertEquals("Added", source.message("added", Locale.US));
+        assertNull(source.message("removed", Locale.US));
+        assertEquals("Root", source.lookup("root", Locale.US));
+    }
+
+    @Test
+    @DisplayName("Verify that a deleted bundle is unloaded on reload")
+    void testDeletedBundleIsUnloaded() throws IOException {
+        final Path directory = Files.createTempDirectory("doburoku-bundles");
+        write(directory.resolve("messages_ja_JP.properties"), "greeting=こんにちは\n");
+
+        final ReloadableTranslationSource source = ReloadableTranslationSource.load(directory, "messages");
+        assertEquals("こんにちは", source.message("greeting", Locale.JAPAN));
+
+        Files.delete(directory.resolve("messages_ja_JP.properties"));
+        source.reload();
+
+        assertEquals(Set.of(), source.locales());
+        assertNull(source.message("greeting", Locale.JAPAN));
+    }
+
+    @Test
+    @DisplayName("Verify that a watched directory is reloaded when a bundle changes")
+    void testWatchedBundleIsReloaded() throws Exception {
+        final Path directory = Files.createTempDirectory("doburoku-bundles");
+        write(directory.resolve("messages_en_US.properties"), "greeting=Hello\n");
+
+        final BlockingQueue<Set<String>> invalidated = new LinkedBlockingQueue<>();
+        try (ReloadableTranslationSource source = ReloadableTranslationSource.watch(directory, "messages")) {
+            source.addListener((locale, keys) -> invalidated.add(keys));
+
+            write(directory.resolve("messages_en_US.properties"), "greeting=Hi\n");
+
+            assertNotNull(invalidated.poll(30, TimeUnit.SECONDS), "change was not detected");
+            assertEquals("Hi", source.message("greeting", Locale.US));
+        }
+    }
+
+    @Test
+    @DisplayName("Verify that a failed reload is reported and keeps the previous messages")
+    void testFailedReloadIsReported() throws Exception {
+        final Path directory = Files.createTempDirectory("doburoku-bundles");
+        write(directory.resolve("messages_en_US.properties"), "greeting=Hello\n");
+
+        final BlockingQueue<IOException> errors = new LinkedBlockingQueue<>();
+        try (ReloadableTranslationSource source = ReloadableTranslationSource.watch(directory, "messages", errors::add)) {
+            // Moved into place so the watcher never reads a truncated file
+            final Path malformed = directory.resolve("messages.tmp");
+            write(malformed, "greeting=\\uZZZZ\n");
+            Files.move(malformed, directory.resolve("messages_en_US.properties"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            assertNotNull(errors.poll(30, TimeUnit.SECONDS), "failure was not reported");
+            assertEquals("Hello", source.message("greeting", Locale.US));
+        }
+    }
+
+    private static void write(final Path file, final String content) throws IOException {
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}